@@ -24,6 +24,7 @@ import com.arangodb.entity.*;
 import com.arangodb.model.*;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * Interface for operations on ArangoDB collection level.
@@ -133,6 +134,31 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      */
     DocumentImportEntity importDocuments(Collection<?> values, DocumentImportOptions options) throws ArangoDBException;
 
+    /**
+     * Bulk imports the values of the given stream into the collection. With the HTTP JSON protocol the values are
+     * serialized and sent one at a time while they are consumed from the stream, so that the whole import is never held
+     * in memory, but the import cannot be retried if the connection fails while they are sent.
+     *
+     * Limitations:
+     * - the fields having {@code null} value are always removed during serialization
+     *
+     * @param values  a stream of Objects that will be stored as documents
+     * @param options Additional options, can be null
+     * @return information about the import
+     * @throws ArangoDBException
+     */
+    DocumentImportEntity importDocuments(Stream<?> values, DocumentImportOptions options) throws ArangoDBException;
+
+    /**
+     * Creates a writer inserting the documents added to it in batches, sending several batches at the same time. The
+     * writer must be closed to write the last batch and release its threads.
+     *
+     * @param options Additional options, can be null
+     * @return bulk writer
+     * @see BulkWriter
+     */
+    <T> BulkWriter<T> bulkWriter(BulkWriterOptions options);
+
     /**
      * Bulk imports the given values into the collection.
      *
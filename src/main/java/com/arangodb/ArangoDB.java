@@ -22,6 +22,8 @@ package com.arangodb;
 
 import com.arangodb.entity.ArangoDBEngine;
 import com.arangodb.entity.ArangoDBVersion;
+import com.arangodb.entity.ConnectionPoolStats;
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.entity.LoadBalancingStrategy;
 import com.arangodb.entity.LogEntity;
 import com.arangodb.entity.LogEntriesEntity;
@@ -46,6 +48,8 @@ import com.arangodb.internal.util.ArangoSerializerImpl;
 import com.arangodb.internal.util.DefaultArangoSerialization;
 import com.arangodb.internal.velocystream.VstCommunicationSync;
 import com.arangodb.internal.velocystream.VstConnectionFactorySync;
+import com.arangodb.internal.velocystream.internal.BufferPool;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.model.DBCreateOptions;
 import com.arangodb.model.LogOptions;
 import com.arangodb.model.UserCreateOptions;
@@ -76,6 +80,7 @@ import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Central access point for applications to communicate with an ArangoDB server.
@@ -122,6 +127,14 @@ public interface ArangoDB extends ArangoSerializationAccessor {
                             .toUpperCase());
         }
 
+        /**
+         * Sets the network protocol. For many concurrent requests over a few connections per host use
+         * {@link Protocol#VST}, which multiplexes the requests over every connection, while with HTTP every request
+         * in flight needs its own socket.
+         *
+         * @param protocol network protocol, {@link Protocol#VST} by default
+         * @return {@link ArangoDB.Builder}
+         */
         public Builder useProtocol(final Protocol protocol) {
             this.protocol = protocol;
             return this;
@@ -284,6 +297,82 @@ public interface ArangoDB extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the number of I/O threads shared by all the VST connections of the driver. If set, every VST connection
+         * uses a non-blocking socket channel served by this group of selector threads, instead of a blocking socket with
+         * its own reader thread. This allows a large number of connections (see {@link #maxConnections(Integer)}) to be
+         * served by a small number of threads.
+         *
+         * <p>
+         * Connections using SSL (see {@link #useSsl(Boolean)}) are not affected by this setting.
+         * </p>
+         *
+         * @param eventLoopThreads number of I/O threads (default: not set)
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder eventLoopThreads(final Integer eventLoopThreads) {
+            setEventLoopThreads(eventLoopThreads);
+            return this;
+        }
+
+        /**
+         * Enables write coalescing for VST connections. Requests are put into an outbound queue of the connection
+         * instead of being written by the calling thread. A writer task drains the queue and sends all the pending
+         * requests together with one write and flush. The writer task starts at the latest after the given delay, or
+         * as soon as the pending requests reach {@link #writeCoalescingMaxBytes(Integer)}. This trades a bounded
+         * amount of latency for throughput when many threads send small requests over few connections.
+         *
+         * @param writeCoalescingDelay max delay in microseconds before pending requests are written, {@code 0} writes
+         *                             them immediately, batching only the requests enqueued in the meantime (default:
+         *                             not set, write coalescing disabled)
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder writeCoalescingDelay(final Integer writeCoalescingDelay) {
+            setWriteCoalescingDelay(writeCoalescingDelay);
+            return this;
+        }
+
+        /**
+         * Sets the amount of pending bytes which triggers the write of the outbound queue, before the delay set with
+         * {@link #writeCoalescingDelay(Integer)} has elapsed.
+         *
+         * @param writeCoalescingMaxBytes max pending bytes (default: 65536)
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder writeCoalescingMaxBytes(final Integer writeCoalescingMaxBytes) {
+            setWriteCoalescingMaxBytes(writeCoalescingMaxBytes);
+            return this;
+        }
+
+        /**
+         * Sets the factory of the threads of the VST connections, i.e. the thread reading the responses of each
+         * connection without {@link #eventLoopThreads(Integer)}, and the threads of write coalescing and keep-alive.
+         * On JDK 21 or later, {@code Thread.ofVirtual().factory()} runs them on virtual threads. The driver does not
+         * hold any monitor while blocked on I/O, so that many concurrent callers on virtual threads do not pin their
+         * carrier threads.
+         *
+         * @param threadFactory factory of the connection threads (default:
+         *                      {@link java.util.concurrent.Executors#defaultThreadFactory()})
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder threadFactory(final ThreadFactory threadFactory) {
+            setThreadFactory(threadFactory);
+            return this;
+        }
+
+        /**
+         * Sets the strategy choosing, among the connections to a host, the one a request is sent over. This is
+         * relevant only with {@link #maxConnections(Integer)} greater than 1.
+         *
+         * @param connectionSelectionStrategy the connection selection strategy (default:
+         *                                    {@link ConnectionSelectionStrategy#LEAST_IN_FLIGHT})
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder connectionSelectionStrategy(final ConnectionSelectionStrategy connectionSelectionStrategy) {
+            setConnectionSelectionStrategy(connectionSelectionStrategy);
+            return this;
+        }
+
         /**
          * Whether or not the driver should acquire a list of available coordinators in an ArangoDB cluster or a single
          * server with active failover.
@@ -638,10 +727,13 @@ public interface ArangoDB extends ArangoSerializationAccessor {
                     ArangoDefaults.MAX_CONNECTIONS_HTTP_DEFAULT;
             final int max = maxConnections != null ? Math.max(1, maxConnections) : protocolMaxConnections;
 
+            final VstEventLoopGroup eventLoopGroup = (protocol == null || Protocol.VST == protocol)
+                    ? createEventLoopGroup() : null;
             final ConnectionFactory connectionFactory = (protocol == null || Protocol.VST == protocol)
-                    ? new VstConnectionFactorySync(host, timeout, connectionTtl, keepAliveInterval, useSsl, sslContext)
+                    ? new VstConnectionFactorySync(host, timeout, connectionTtl, keepAliveInterval, useSsl, sslContext,
+                    eventLoopGroup, writeCoalescingDelay, writeCoalescingMaxBytes, threadFactory, new BufferPool())
                     : new HttpConnectionFactory(timeout, user, password, useSsl, sslContext, hostnameVerifier, custom,
-                    protocol, connectionTtl, httpCookieSpec, httpRequestRetryHandler);
+                    protocol, connectionTtl, httpCookieSpec, httpRequestRetryHandler, max);
 
             final Collection<Host> hostList = createHostList(max, connectionFactory);
             final HostResolver hostResolver = createHostResolver(hostList, max, connectionFactory);
@@ -650,7 +742,7 @@ public interface ArangoDB extends ArangoSerializationAccessor {
             return new ArangoDBImpl(
                     new VstCommunicationSync.Builder(hostHandler).timeout(timeout).user(user).password(password)
                             .useSsl(useSsl).sslContext(sslContext).chunksize(chunksize).maxConnections(maxConnections)
-                            .connectionTtl(connectionTtl),
+                            .connectionTtl(connectionTtl).eventLoopGroup(eventLoopGroup),
                     new HttpCommunication.Builder(hostHandler), util, protocol, hostResolver, new ArangoContext());
         }
 
@@ -663,6 +755,13 @@ public interface ArangoDB extends ArangoSerializationAccessor {
      */
     void shutdown() throws ArangoDBException;
 
+    /**
+     * Returns the statistics of the connections to every host, e.g. to size {@link Builder#maxConnections(Integer)}.
+     *
+     * @return statistics of the connections, one per host
+     */
+    Collection<ConnectionPoolStats> getConnectionPoolStats();
+
     /**
      * Returns a {@code ArangoDatabase} instance for the {@code _system} database.
      *
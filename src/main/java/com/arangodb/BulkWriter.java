@@ -0,0 +1,67 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import com.arangodb.entity.BulkWriterStats;
+
+import java.io.Closeable;
+
+/**
+ * Writes documents into a collection in batches. Documents can be added from many threads, they are grouped into
+ * batches by count, size and linger time, and several batches are inserted at the same time. The documents rejected
+ * with a retryable error are sent again, see {@link com.arangodb.model.BulkWriterOptions#maxRetries(Integer)}.
+ *
+ * @param <T> type of the documents
+ * @see ArangoCollection#bulkWriter(com.arangodb.model.BulkWriterOptions)
+ */
+public interface BulkWriter<T> extends Closeable {
+
+    /**
+     * Adds a document to the current batch, sending the batch if it is full. Blocks while the maximum number of
+     * batches is in flight.
+     *
+     * @param document document to write
+     * @throws ArangoDBException if the writer is closed or the document cannot be serialized
+     */
+    void add(T document) throws ArangoDBException;
+
+    /**
+     * Sends the current batch and waits for all the batches to be written.
+     *
+     * @throws ArangoDBException if some documents could not be written since the previous flush and no error handler
+     *                           has been set for them, or a whole batch failed
+     */
+    void flush() throws ArangoDBException;
+
+    /**
+     * @return statistics of the documents written so far
+     */
+    BulkWriterStats getStats();
+
+    /**
+     * Flushes the writer and releases its threads.
+     *
+     * @throws ArangoDBException as {@link #flush()}
+     */
+    @Override
+    void close() throws ArangoDBException;
+
+}
@@ -25,17 +25,20 @@ package com.arangodb;
  */
 public enum Protocol {
     /**
-     * VelocyStream
+     * VelocyStream. Concurrent requests are multiplexed over every connection, so that a few connections per host,
+     * possibly with TLS, can carry thousands of requests at the same time.
      *
      * @see <a href="https://github.com/arangodb/velocystream">VelocyStream specification</a>
      */
     VST,
     /**
-     * HTTP with JSON body
+     * HTTP/1.1 with JSON body. Every request in flight occupies a socket of the pool of the host, therefore the number
+     * of concurrent requests to a host is bound by the maximum number of connections.
      */
     HTTP_JSON,
     /**
-     * HTTP with VelocyPack body
+     * HTTP/1.1 with VelocyPack body. Every request in flight occupies a socket of the pool of the host, therefore the
+     * number of concurrent requests to a host is bound by the maximum number of connections.
      *
      * @see <a href="https://github.com/arangodb/velocypack">VelocyPack specification</a>
      */
@@ -22,6 +22,9 @@ package com.arangodb.async;
 
 import com.arangodb.ArangoCursor;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -31,4 +34,28 @@ public interface ArangoCursorAsync<T> extends ArangoCursor<T> {
 
     Stream<T> streamRemaining();
 
+    /**
+     * Returns the elements of the current batch not consumed yet or, if there are none, fetches the next batch without
+     * blocking. The next call must happen after the returned future has completed.
+     *
+     * @return future completed with the elements of the batch, or with an empty list when the cursor is exhausted
+     */
+    CompletableFuture<List<T>> nextBatch();
+
+    /**
+     * Passes the remaining elements of the cursor to the given action, one batch at a time, fetching the batches without
+     * blocking.
+     *
+     * @param action action invoked for every batch, on the thread completing its fetch
+     * @return future completed after the last batch has been processed
+     */
+    CompletableFuture<Void> forEachBatchAsync(Consumer<? super List<T>> action);
+
+    /**
+     * Non-blocking counterpart of {@link #close()}.
+     *
+     * @return future completed when the cursor has been deleted on the server
+     */
+    CompletableFuture<Void> closeAsync();
+
 }
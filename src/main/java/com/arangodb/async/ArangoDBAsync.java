@@ -27,6 +27,7 @@ import com.arangodb.async.internal.ArangoDBAsyncImpl;
 import com.arangodb.async.internal.velocystream.VstCommunicationAsync;
 import com.arangodb.async.internal.velocystream.VstConnectionFactoryAsync;
 import com.arangodb.entity.ArangoDBVersion;
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.entity.LoadBalancingStrategy;
 import com.arangodb.entity.LogEntity;
 import com.arangodb.entity.LogEntriesEntity;
@@ -46,6 +47,8 @@ import com.arangodb.internal.util.ArangoSerializerImpl;
 import com.arangodb.internal.util.DefaultArangoSerialization;
 import com.arangodb.internal.velocystream.VstCommunicationSync;
 import com.arangodb.internal.velocystream.VstConnectionFactorySync;
+import com.arangodb.internal.velocystream.internal.BufferPool;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.model.DBCreateOptions;
 import com.arangodb.model.LogOptions;
 import com.arangodb.model.UserCreateOptions;
@@ -73,6 +76,8 @@ import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Central access point for applications to communicate with an ArangoDB server.
@@ -328,6 +333,9 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
     @SuppressWarnings("unused")
     class Builder extends InternalArangoDBBuilder {
 
+        private Executor sendExecutor;
+        private Executor deserializationExecutor;
+
         public Builder() {
             super();
         }
@@ -456,6 +464,82 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the number of I/O threads shared by all the VST connections of the driver. If set, every VST connection
+         * uses a non-blocking socket channel served by this group of selector threads, instead of a blocking socket with
+         * its own reader thread. This allows a large number of connections (see {@link #maxConnections(Integer)}) to be
+         * served by a small number of threads.
+         *
+         * <p>
+         * Connections using SSL (see {@link #useSsl(Boolean)}) are not affected by this setting.
+         * </p>
+         *
+         * @param eventLoopThreads number of I/O threads (default: not set)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder eventLoopThreads(final Integer eventLoopThreads) {
+            setEventLoopThreads(eventLoopThreads);
+            return this;
+        }
+
+        /**
+         * Enables write coalescing for VST connections. Requests are put into an outbound queue of the connection
+         * instead of being written by the calling thread. A writer task drains the queue and sends all the pending
+         * requests together with one write and flush. The writer task starts at the latest after the given delay, or
+         * as soon as the pending requests reach {@link #writeCoalescingMaxBytes(Integer)}. This trades a bounded
+         * amount of latency for throughput when many threads send small requests over few connections.
+         *
+         * @param writeCoalescingDelay max delay in microseconds before pending requests are written, {@code 0} writes
+         *                             them immediately, batching only the requests enqueued in the meantime (default:
+         *                             not set, write coalescing disabled)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder writeCoalescingDelay(final Integer writeCoalescingDelay) {
+            setWriteCoalescingDelay(writeCoalescingDelay);
+            return this;
+        }
+
+        /**
+         * Sets the amount of pending bytes which triggers the write of the outbound queue, before the delay set with
+         * {@link #writeCoalescingDelay(Integer)} has elapsed.
+         *
+         * @param writeCoalescingMaxBytes max pending bytes (default: 65536)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder writeCoalescingMaxBytes(final Integer writeCoalescingMaxBytes) {
+            setWriteCoalescingMaxBytes(writeCoalescingMaxBytes);
+            return this;
+        }
+
+        /**
+         * Sets the factory of the threads of the VST connections, i.e. the thread reading the responses of each
+         * connection without {@link #eventLoopThreads(Integer)}, and the threads of write coalescing and keep-alive.
+         * On JDK 21 or later, {@code Thread.ofVirtual().factory()} runs them on virtual threads. The driver does not
+         * hold any monitor while blocked on I/O, so that many concurrent callers on virtual threads do not pin their
+         * carrier threads.
+         *
+         * @param threadFactory factory of the connection threads (default:
+         *                      {@link java.util.concurrent.Executors#defaultThreadFactory()})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder threadFactory(final ThreadFactory threadFactory) {
+            setThreadFactory(threadFactory);
+            return this;
+        }
+
+        /**
+         * Sets the strategy choosing, among the connections to a host, the one a request is sent over. This is
+         * relevant only with {@link #maxConnections(Integer)} greater than 1.
+         *
+         * @param connectionSelectionStrategy the connection selection strategy (default:
+         *                                    {@link ConnectionSelectionStrategy#LEAST_IN_FLIGHT})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder connectionSelectionStrategy(final ConnectionSelectionStrategy connectionSelectionStrategy) {
+            setConnectionSelectionStrategy(connectionSelectionStrategy);
+            return this;
+        }
+
         /**
          * Whether or not the driver should acquire a list of available coordinators in an ArangoDB cluster or a single
          * server with active failover.
@@ -486,6 +570,32 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the executor sending the requests. By default the requests are sent by the thread calling the driver,
+         * which is then blocked while a connection is established, i.e. on the first requests to a host.
+         *
+         * @param sendExecutor executor sending the requests (default: not set, the calling thread)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder sendExecutor(final Executor sendExecutor) {
+            this.sendExecutor = sendExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the executor deserializing the responses and completing the returned futures, i.e. running their
+         * dependent stages. {@code Runnable::run} deserializes the responses on the thread receiving them, which then
+         * must not be blocked by the dependent stages.
+         *
+         * @param deserializationExecutor executor deserializing the responses (default:
+         *                                {@link java.util.concurrent.ForkJoinPool#commonPool()})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder deserializationExecutor(final Executor deserializationExecutor) {
+            this.deserializationExecutor = deserializationExecutor;
+            return this;
+        }
+
         /**
          * Register a custom {@link VPackSerializer} for a specific type to be used within the internal serialization
          * process.
@@ -796,10 +906,14 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
 
             final int max = maxConnections != null ? Math.max(1, maxConnections)
                     : ArangoDefaults.MAX_CONNECTIONS_VST_DEFAULT;
+            final VstEventLoopGroup eventLoopGroup = createEventLoopGroup();
+            final BufferPool bufferPool = new BufferPool();
             final ConnectionFactory syncConnectionFactory = new VstConnectionFactorySync(host, timeout, connectionTtl,
-                    keepAliveInterval, useSsl, sslContext);
+                    keepAliveInterval, useSsl, sslContext, eventLoopGroup, writeCoalescingDelay,
+                    writeCoalescingMaxBytes, threadFactory, bufferPool);
             final ConnectionFactory asyncConnectionFactory = new VstConnectionFactoryAsync(host, timeout, connectionTtl,
-                    keepAliveInterval, useSsl, sslContext);
+                    keepAliveInterval, useSsl, sslContext, eventLoopGroup, writeCoalescingDelay,
+                    writeCoalescingMaxBytes, threadFactory, bufferPool);
             final HostResolver syncHostResolver = createHostResolver(createHostList(max, syncConnectionFactory), max,
                     syncConnectionFactory);
             final HostResolver asyncHostResolver = createHostResolver(createHostList(max, asyncConnectionFactory), max,
@@ -807,12 +921,14 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             final HostHandler syncHostHandler = createHostHandler(syncHostResolver);
             final HostHandler asyncHostHandler = createHostHandler(asyncHostResolver);
             return new ArangoDBAsyncImpl(
-                    asyncBuilder(asyncHostHandler),
+                    asyncBuilder(asyncHostHandler).eventLoopGroup(eventLoopGroup),
                     util,
-                    syncBuilder(syncHostHandler),
+                    syncBuilder(syncHostHandler).eventLoopGroup(eventLoopGroup),
                     asyncHostResolver,
                     syncHostResolver,
-                    new ArangoContext());
+                    new ArangoContext(),
+                    sendExecutor,
+                    deserializationExecutor);
         }
 
         private VstCommunicationAsync.Builder asyncBuilder(final HostHandler hostHandler) {
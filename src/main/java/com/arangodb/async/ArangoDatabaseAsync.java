@@ -304,6 +304,27 @@ public interface ArangoDatabaseAsync extends ArangoSerializationAccessor {
      */
     <T> CompletableFuture<ArangoCursorAsync<T>> query(final String query, final Class<T> type);
 
+    /**
+     * Returns a publisher of the results of the given {@code query}. Every subscriber executes the query once it
+     * requests the first elements, the following batches of the cursor are fetched only as the subscriber requests
+     * more elements. At most one batch, plus the ones prefetched according to
+     * {@link AqlQueryOptions#prefetchBatches(Integer)}, is kept in memory. Cancelling the subscription deletes the
+     * cursor on the server.
+     *
+     * @param query    contains the query string to be executed
+     * @param bindVars key/value pairs representing the bind parameters, can be null
+     * @param options  Additional options, can be null
+     * @param type     The type of the result (POJO class, VPackSlice, String for Json, or Collection/List/Map)
+     * @return publisher of the results
+     * @see <a href="https://www.arangodb.com/docs/stable/http/aql-query-cursor-accessing-cursors.html#create-cursor">API
+     * Documentation</a>
+     */
+    <T> ArangoFlow.Publisher<T> queryPublisher(
+            final String query,
+            final Map<String, Object> bindVars,
+            final AqlQueryOptions options,
+            final Class<T> type);
+
     /**
      * Return an cursor from the given cursor-ID if still existing
      *
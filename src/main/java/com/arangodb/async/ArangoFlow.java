@@ -0,0 +1,106 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async;
+
+/**
+ * Interfaces of publishers of a stream of elements, to which subscribers signal their demand. They have the same
+ * methods and contracts as the ones of {@code java.util.concurrent.Flow} and of the Reactive Streams specification
+ * (https://www.reactive-streams.org), so that they can be adapted to them with plain delegation.
+ */
+public final class ArangoFlow {
+
+    private ArangoFlow() {
+        super();
+    }
+
+    /**
+     * Producer of elements, sending them to its subscribers only as much as they requested.
+     *
+     * @param <T> type of the elements
+     */
+    public interface Publisher<T> {
+
+        /**
+         * Adds the given subscriber, which is then notified through
+         * {@link Subscriber#onSubscribe(Subscription)}.
+         *
+         * @param subscriber the subscriber
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+
+    }
+
+    /**
+     * Receiver of elements. The methods are invoked sequentially, never concurrently.
+     *
+     * @param <T> type of the elements
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Invoked before any other method, no element is sent before {@link Subscription#request(long)} is called.
+         *
+         * @param subscription the subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next element, only after it has been requested.
+         *
+         * @param item the element
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked on an unrecoverable error, no further method is invoked afterwards.
+         *
+         * @param throwable the error
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked after the last element, no further method is invoked afterwards.
+         */
+        void onComplete();
+
+    }
+
+    /**
+     * Link between a publisher and one of its subscribers.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the given number of elements to the demand of the subscriber.
+         *
+         * @param n number of elements, a non-positive number results in
+         *          {@link Subscriber#onError(Throwable)} with an {@link IllegalArgumentException}
+         */
+        void request(long n);
+
+        /**
+         * Stops sending elements to the subscriber, eventually.
+         */
+        void cancel();
+
+    }
+
+}
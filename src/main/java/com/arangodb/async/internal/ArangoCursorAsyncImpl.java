@@ -20,14 +20,22 @@
 
 package com.arangodb.async.internal;
 
+import com.arangodb.ArangoDBException;
 import com.arangodb.async.ArangoCursorAsync;
 import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorAsyncExecute;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
 
-import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -36,13 +44,122 @@ import java.util.stream.StreamSupport;
  */
 public class ArangoCursorAsyncImpl<T> extends ArangoCursorImpl<T> implements ArangoCursorAsync<T> {
 
-    ArangoCursorAsyncImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecute execute,
+    private final ArangoCursorAsyncExecute execute;
+
+    ArangoCursorAsyncImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorAsyncExecute execute,
                           final Class<T> type, final CursorEntity result) {
-        super(db, execute, type, result);
+        this(db, execute, type, result, null);
+    }
+
+    ArangoCursorAsyncImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorAsyncExecute execute,
+                          final Class<T> type, final CursorEntity result, final Executor decodeExecutor) {
+        super(db, blocking(execute), type, result, decodeExecutor);
+        this.execute = execute;
+    }
+
+    private static ArangoCursorExecute blocking(final ArangoCursorAsyncExecute execute) {
+        return new ArangoCursorExecute() {
+            @Override
+            public CursorEntity next(final String id, final Map<String, String> meta) {
+                try {
+                    return execute.next(id, meta).get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new ArangoDBException(e);
+                }
+            }
+
+            @Override
+            public void close(final String id, final Map<String, String> meta) {
+                try {
+                    execute.close(id, meta).get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new ArangoDBException(e);
+                }
+            }
+        };
     }
 
     @Override
     public Stream<T> streamRemaining() {
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public CompletableFuture<List<T>> nextBatch() {
+        final List<T> remaining = iterator.remaining();
+        if (!remaining.isEmpty()) {
+            return CompletableFuture.completedFuture(remaining);
+        }
+        final CursorEntity result = iterator.getResult();
+        if (!Boolean.TRUE.equals(result.getHasMore())) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return execute.next(getId(), result.getMeta()).thenApply(next -> {
+            iterator.setResult(next);
+            return iterator.remaining();
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> forEachBatchAsync(final Consumer<? super List<T>> action) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        forEachBatch(action, done);
+        return done;
+    }
+
+    private void forEachBatch(final Consumer<? super List<T>> action, final CompletableFuture<Void> done) {
+        // batches already available are processed in this loop, to not grow the stack
+        while (true) {
+            final CompletableFuture<List<T>> batch = nextBatch();
+            if (!batch.isDone()) {
+                batch.whenComplete((elements, e) -> {
+                    if (e != null) {
+                        done.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+                    } else if (accept(action, elements, done)) {
+                        forEachBatch(action, done);
+                    }
+                });
+                return;
+            }
+            final List<T> elements;
+            try {
+                elements = batch.join();
+            } catch (final CompletionException e) {
+                done.completeExceptionally(e.getCause());
+                return;
+            }
+            if (!accept(action, elements, done)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return whether there are more batches to process
+     */
+    private boolean accept(final Consumer<? super List<T>> action, final List<T> elements,
+                           final CompletableFuture<Void> done) {
+        try {
+            if (!elements.isEmpty()) {
+                action.accept(elements);
+            }
+        } catch (final RuntimeException e) {
+            done.completeExceptionally(e);
+            return false;
+        }
+        if (!hasNext()) {
+            done.complete(null);
+            return false;
+        }
+        return true;
     }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+        if (getId() != null && hasNext()) {
+            return execute.close(getId(), iterator.getResult().getMeta());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
 }
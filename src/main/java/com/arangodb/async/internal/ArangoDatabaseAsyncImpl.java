@@ -25,6 +25,7 @@ import com.arangodb.async.ArangoCollectionAsync;
 import com.arangodb.async.ArangoCursorAsync;
 import com.arangodb.async.ArangoDatabaseAsync;
 import com.arangodb.async.ArangoGraphAsync;
+import com.arangodb.async.ArangoFlow;
 import com.arangodb.async.ArangoRouteAsync;
 import com.arangodb.async.ArangoSearchAsync;
 import com.arangodb.async.ArangoViewAsync;
@@ -50,7 +51,7 @@ import com.arangodb.entity.ViewEntity;
 import com.arangodb.entity.ViewType;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
-import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.internal.ArangoCursorAsyncExecute;
 import com.arangodb.internal.ArangoErrors;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.net.HostHandle;
@@ -77,7 +78,6 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
 
 /**
  * @author Mark Vollmary
@@ -239,6 +239,15 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
         return query(query, null, null, type);
     }
 
+    @Override
+    public <T> ArangoFlow.Publisher<T> queryPublisher(
+            final String query,
+            final Map<String, Object> bindVars,
+            final AqlQueryOptions options,
+            final Class<T> type) {
+        return new CursorPublisher<>(() -> query(query, bindVars, options, type));
+    }
+
     @Override
     public <T> CompletableFuture<ArangoCursorAsync<T>> cursor(final String cursorId, final Class<T> type) {
         final HostHandle hostHandle = new HostHandle();
@@ -251,27 +260,18 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
             final Class<T> type,
             final AqlQueryOptions options,
             final HostHandle hostHandle) {
-        return new ArangoCursorAsyncImpl<>(this, new ArangoCursorExecute() {
+        return new ArangoCursorAsyncImpl<>(this, prefetch(killOnTimeout(new ArangoCursorAsyncExecute() {
             @Override
-            public CursorEntity next(final String id, Map<String, String> meta) {
-                final CompletableFuture<CursorEntity> result = executor.execute(queryNextRequest(id, options, meta),
-                        CursorEntity.class, hostHandle);
-                try {
-                    return result.get();
-                } catch (InterruptedException | ExecutionException e) {
-                    throw new ArangoDBException(e);
-                }
+            public CompletableFuture<CursorEntity> next(final String id, Map<String, String> meta) {
+                return executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle);
             }
 
             @Override
-            public void close(final String id, Map<String, String> meta) {
-                try {
-                    executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle).get();
-                } catch (InterruptedException | ExecutionException e) {
-                    throw new ArangoDBException(e);
-                }
+            public CompletableFuture<Void> close(final String id, Map<String, String> meta) {
+                return executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle);
             }
-        }, type, result);
+        }, options, executor.getDeserializationExecutor()), options, result), type, result,
+                options != null ? options.getDeserializationExecutor() : null);
     }
 
     @Override
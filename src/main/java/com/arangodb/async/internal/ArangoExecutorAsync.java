@@ -27,12 +27,15 @@ import com.arangodb.internal.DocumentCache;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 /**
  * @author Mark Vollmary
@@ -41,12 +44,34 @@ import java.util.concurrent.Executors;
 public class ArangoExecutorAsync extends ArangoExecutor {
 
     private final VstCommunicationAsync communication;
-    private final ExecutorService outgoingExecutor = Executors.newSingleThreadExecutor();
+    private final Executor sendExecutor;
+    private final Executor deserializationExecutor;
 
     public ArangoExecutorAsync(final VstCommunicationAsync communication, final ArangoSerializationFactory util,
                                final DocumentCache documentCache) {
+        this(communication, util, documentCache, null, null);
+    }
+
+    /**
+     * @param sendExecutor            executor sending the requests, {@code null} to send them on the calling thread
+     * @param deserializationExecutor executor deserializing the responses, {@code null} for the common
+     *                                {@link ForkJoinPool}
+     */
+    public ArangoExecutorAsync(final VstCommunicationAsync communication, final ArangoSerializationFactory util,
+                               final DocumentCache documentCache, final Executor sendExecutor,
+                               final Executor deserializationExecutor) {
         super(util, documentCache);
         this.communication = communication;
+        this.sendExecutor = sendExecutor;
+        this.deserializationExecutor = deserializationExecutor != null ? deserializationExecutor
+                : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * @return executor deserializing the responses and completing the returned futures
+     */
+    public Executor getDeserializationExecutor() {
+        return deserializationExecutor;
     }
 
     public <T> CompletableFuture<T> execute(final Request request, final Type type) {
@@ -66,9 +91,29 @@ public class ArangoExecutorAsync extends ArangoExecutor {
             final ResponseDeserializer<T> responseDeserializer,
             final HostHandle hostHandle) {
 
-        return CompletableFuture.completedFuture(null)
-                .thenComposeAsync((it) -> communication.execute(request, hostHandle), outgoingExecutor)
-                .thenApplyAsync(responseDeserializer::deserialize);
+        final CompletableFuture<Response> response = sendExecutor != null
+                ? CompletableFuture.supplyAsync(() -> send(request, hostHandle), sendExecutor)
+                .thenCompose(Function.identity())
+                : send(request, hostHandle);
+        // failed responses are handed over to the executor as well, instead of completing the dependent stages on
+        // the thread failing them, e.g. the timer wheel or the connection reading the responses
+        return response.handleAsync((r, e) -> {
+            if (e != null) {
+                throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+            }
+            return responseDeserializer.deserialize(r);
+        }, deserializationExecutor);
+    }
+
+    protected CompletableFuture<Response> send(final Request request, final HostHandle hostHandle) {
+        try {
+            return communication.execute(request, hostHandle);
+        } catch (final RuntimeException e) {
+            // e.g. no host reachable, reported through the future as when sending on another thread
+            final CompletableFuture<Response> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
     }
 
     public void disconnect() {
@@ -76,8 +121,6 @@ public class ArangoExecutorAsync extends ArangoExecutor {
             communication.close();
         } catch (final IOException e) {
             throw new ArangoDBException(e);
-        } finally {
-            outgoingExecutor.shutdown();
         }
     }
 }
@@ -0,0 +1,190 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.async.ArangoCursorAsync;
+import com.arangodb.async.ArangoFlow;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Publisher of the results of a query. Every subscription executes the query once the first elements are requested,
+ * and fetches the next batch of the cursor only when the elements of the current batch have all been requested and
+ * sent. On cancellation the cursor is deleted on the server.
+ */
+class CursorPublisher<T> implements ArangoFlow.Publisher<T> {
+
+    private final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query;
+
+    CursorPublisher(final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query) {
+        super();
+        this.query = query;
+    }
+
+    @Override
+    public void subscribe(final ArangoFlow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        final CursorSubscription subscription = new CursorSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private class CursorSubscription implements ArangoFlow.Subscription {
+
+        private final ArangoFlow.Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Queue<T> buffer = new ConcurrentLinkedQueue<>();
+        private volatile ArangoCursorAsync<T> cursor;
+        private volatile boolean fetching;
+        private volatile boolean exhausted;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        // accessed in drain() only
+        private boolean terminated;
+
+        CursorSubscription(final ArangoFlow.Subscriber<? super T> subscriber) {
+            super();
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("non-positive subscription request: " + n);
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /**
+         * Serializes the signals to the subscriber: the thread entering it sends as many elements as possible, also on
+         * behalf of the threads calling it concurrently.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!cancelled && error == null && requested.get() > 0) {
+                final T element = buffer.poll();
+                if (element == null) {
+                    break;
+                }
+                if (requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                try {
+                    subscriber.onNext(element);
+                } catch (final RuntimeException e) {
+                    // the subscriber violated the specification, the subscription is considered cancelled
+                    cancelled = true;
+                }
+            }
+            if (fetching) {
+                // completion of the pending request drains again
+                return;
+            }
+            if (cancelled || error != null) {
+                terminated = true;
+                buffer.clear();
+                final ArangoCursorAsync<T> c = cursor;
+                if (c != null && !exhausted) {
+                    c.closeAsync();
+                }
+                if (!cancelled) {
+                    subscriber.onError(error);
+                }
+            } else if (buffer.isEmpty() && exhausted) {
+                terminated = true;
+                subscriber.onComplete();
+            } else if (buffer.isEmpty() && requested.get() > 0) {
+                fetch();
+            }
+        }
+
+        private void fetch() {
+            fetching = true;
+            final ArangoCursorAsync<T> c = cursor;
+            final CompletableFuture<Void> request;
+            try {
+                if (c == null) {
+                    request = query.get().thenAccept(result -> cursor = result);
+                } else {
+                    request = c.nextBatch().thenAccept(batch -> {
+                        buffer(batch);
+                        exhausted = batch.isEmpty() || !c.hasNext();
+                    });
+                }
+            } catch (final RuntimeException e) {
+                fetched(e);
+                return;
+            }
+            // failures of the callbacks are reported as well, otherwise the subscription would never terminate
+            request.whenComplete((result, e) -> fetched(e));
+        }
+
+        private void buffer(final List<T> batch) {
+            for (final T element : batch) {
+                if (element == null) {
+                    // not allowed by the Reactive Streams specification
+                    throw new NullPointerException("The query returned a null element, which cannot be published");
+                }
+            }
+            buffer.addAll(batch);
+        }
+
+        private void fetched(final Throwable e) {
+            if (e != null) {
+                error = e instanceof CompletionException ? e.getCause() : e;
+            }
+            fetching = false;
+            drain();
+        }
+
+    }
+
+}
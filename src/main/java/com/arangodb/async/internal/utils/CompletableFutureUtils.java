@@ -1,9 +1,8 @@
 package com.arangodb.async.internal.utils;
 
+import com.arangodb.internal.util.TimerWheel;
+
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -12,17 +11,10 @@ public class CompletableFutureUtils {
     private CompletableFutureUtils() {
     }
 
-    private static final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = Executors.defaultThreadFactory().newThread(r);
-                t.setDaemon(true);
-                return t;
-            }
-    );
-
     public static <T> CompletableFuture<T> orTimeout(CompletableFuture<T> completableFuture, long timeout, TimeUnit unit) {
-        ScheduledFuture<?> timeoutTask = timeoutScheduler.schedule(() ->
+        TimerWheel.Timeout timeoutTask = TimerWheel.getDefault().schedule(() ->
                 completableFuture.completeExceptionally(new TimeoutException()), timeout, unit);
-        completableFuture.whenComplete((v, e) -> timeoutTask.cancel(false));
+        completableFuture.whenComplete((v, e) -> timeoutTask.cancel());
         return completableFuture;
     }
 
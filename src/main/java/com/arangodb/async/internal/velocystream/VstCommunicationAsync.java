@@ -25,10 +25,12 @@ import com.arangodb.internal.net.ArangoDBRedirectException;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.net.HostHandler;
+import com.arangodb.internal.net.HostSelection;
 import com.arangodb.internal.util.HostUtils;
 import com.arangodb.internal.velocystream.VstCommunication;
 import com.arangodb.internal.velocystream.internal.AuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.Message;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocypack.exception.VPackParserException;
@@ -50,16 +52,18 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
 
     private VstCommunicationAsync(final HostHandler hostHandler, final Integer timeout, final String user,
                                   final String password, final Boolean useSsl, final SSLContext sslContext, final ArangoSerialization util,
-                                  final Integer chunksize, final Integer maxConnections, final Long connectionTtl) {
-        super(timeout, user, password, useSsl, sslContext, util, chunksize, hostHandler);
+                                  final Integer chunksize, final Integer maxConnections, final Long connectionTtl,
+                                  final VstEventLoopGroup eventLoopGroup) {
+        super(timeout, user, password, useSsl, sslContext, util, chunksize, hostHandler, eventLoopGroup);
     }
 
     @Override
-    protected CompletableFuture<Response> execute(final Request request, final VstConnectionAsync connection) {
+    protected CompletableFuture<Response> execute(final Request request, final VstConnectionAsync connection,
+                                                  final HostSelection selection) {
         final CompletableFuture<Response> rfuture = new CompletableFuture<>();
         try {
             final Message message = createMessage(request);
-            send(message, connection).whenComplete((m, ex) -> {
+            send(message, request.getTimeout(), connection).whenComplete((m, ex) -> {
                 if (m != null) {
                     final Response response;
                     try {
@@ -75,8 +79,8 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
                     } catch (final ArangoDBRedirectException e) {
                         final String location = e.getLocation();
                         final HostDescription redirectHost = HostUtils.createFromLocation(location);
-                        hostHandler.closeCurrentOnError();
-                        hostHandler.fail();
+                        selection.getHost().closeOnError();
+                        hostHandler.fail(selection);
                         execute(request, new HostHandle().setHost(redirectHost))
                                 .whenComplete((v, err) -> {
                                     if (v != null) {
@@ -106,20 +110,21 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
         return rfuture;
     }
 
-    private CompletableFuture<Message> send(final Message message, final VstConnectionAsync connection) {
+    private CompletableFuture<Message> send(final Message message, final Integer timeout,
+                                            final VstConnectionAsync connection) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("Send Message (id=%s, head=%s, body=%s)", message.getId(), message.getHead(),
                     message.getBody() != null ? message.getBody() : "{}"));
         }
-        return connection.write(message, buildChunks(message));
+        return connection.write(message, buildChunks(message), timeout);
     }
 
     @Override
-    protected void authenticate(final VstConnectionAsync connection) {
+    protected void authenticate(final VstConnectionAsync connection, final HostSelection selection) {
         Response response;
         try {
             response = execute(new AuthenticationRequest(user, password != null ? password : "", ENCRYPTION_PLAIN),
-                    connection).get();
+                    connection, selection).get();
         } catch (final InterruptedException | ExecutionException e) {
             throw new ArangoDBException(e);
         }
@@ -137,6 +142,7 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
         private SSLContext sslContext;
         private Integer chunksize;
         private Integer maxConnections;
+        private VstEventLoopGroup eventLoopGroup;
 
         public Builder(final HostHandler hostHandler) {
             super();
@@ -183,9 +189,14 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
             return this;
         }
 
+        public Builder eventLoopGroup(final VstEventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+            return this;
+        }
+
         public VstCommunicationAsync build(final ArangoSerialization util) {
             return new VstCommunicationAsync(hostHandler, timeout, user, password, useSsl, sslContext, util, chunksize,
-                    maxConnections, connectionTtl);
+                    maxConnections, connectionTtl, eventLoopGroup);
         }
     }
 
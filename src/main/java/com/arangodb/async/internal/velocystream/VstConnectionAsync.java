@@ -20,18 +20,18 @@
 
 package com.arangodb.async.internal.velocystream;
 
-import com.arangodb.async.internal.utils.CompletableFutureUtils;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.velocystream.internal.BufferPool;
 import com.arangodb.internal.velocystream.internal.Chunk;
 import com.arangodb.internal.velocystream.internal.Message;
 import com.arangodb.internal.velocystream.internal.MessageStore;
 import com.arangodb.internal.velocystream.internal.VstConnection;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 
 import javax.net.ssl.SSLContext;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.FutureTask;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * @author Mark Vollmary
@@ -39,28 +39,20 @@ import java.util.concurrent.TimeUnit;
 public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>> {
 
     private VstConnectionAsync(final HostDescription host, final Integer timeout, final Long ttl, final Integer keepAliveInterval,
-                               final Boolean useSsl, final SSLContext sslContext, final MessageStore messageStore) {
-        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore);
+                               final Boolean useSsl, final SSLContext sslContext, final MessageStore messageStore,
+                               final VstEventLoopGroup eventLoopGroup, final Integer writeCoalescingDelay,
+                               final Integer writeCoalescingMaxBytes, final ThreadFactory threadFactory,
+                               final BufferPool bufferPool) {
+        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore, eventLoopGroup,
+                writeCoalescingDelay, writeCoalescingMaxBytes, threadFactory, bufferPool);
     }
 
     @Override
-    public synchronized CompletableFuture<Message> write(final Message message, final Collection<Chunk> chunks) {
-        final CompletableFuture<Message> future = new CompletableFuture<>();
-        final FutureTask<Message> task = new FutureTask<>(() -> {
-            try {
-                future.complete(messageStore.get(message.getId()));
-            } catch (final Exception e) {
-                future.completeExceptionally(e);
-            }
-            return null;
-        });
-        messageStore.storeMessage(message.getId(), task);
+    public CompletableFuture<Message> write(final Message message, final Collection<Chunk> chunks,
+                                            final Integer timeout) {
+        final CompletableFuture<Message> future = storeMessage(message.getId(), timeout);
         super.writeIntern(message, chunks);
-        if (timeout == null || timeout == 0L) {
-            return future;
-        } else {
-            return CompletableFutureUtils.orTimeout(future, timeout, TimeUnit.MILLISECONDS);
-        }
+        return future;
     }
 
     @Override
@@ -77,6 +69,11 @@ public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>
         private Integer keepAliveInterval;
         private Boolean useSsl;
         private SSLContext sslContext;
+        private VstEventLoopGroup eventLoopGroup;
+        private Integer writeCoalescingDelay;
+        private Integer writeCoalescingMaxBytes;
+        private ThreadFactory threadFactory;
+        private BufferPool bufferPool;
 
         public Builder() {
             super();
@@ -117,8 +114,34 @@ public class VstConnectionAsync extends VstConnection<CompletableFuture<Message>
             return this;
         }
 
+        public Builder eventLoopGroup(final VstEventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+            return this;
+        }
+
+        public Builder writeCoalescingDelay(final Integer writeCoalescingDelay) {
+            this.writeCoalescingDelay = writeCoalescingDelay;
+            return this;
+        }
+
+        public Builder writeCoalescingMaxBytes(final Integer writeCoalescingMaxBytes) {
+            this.writeCoalescingMaxBytes = writeCoalescingMaxBytes;
+            return this;
+        }
+
+        public Builder threadFactory(final ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        public Builder bufferPool(final BufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
         public VstConnectionAsync build() {
-            return new VstConnectionAsync(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore);
+            return new VstConnectionAsync(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore,
+                    eventLoopGroup, writeCoalescingDelay, writeCoalescingMaxBytes, threadFactory, bufferPool);
         }
     }
 
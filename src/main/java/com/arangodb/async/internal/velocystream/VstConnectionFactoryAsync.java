@@ -23,9 +23,12 @@ package com.arangodb.async.internal.velocystream;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.velocystream.internal.BufferPool;
 import com.arangodb.internal.velocystream.internal.MessageStore;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 
 import javax.net.ssl.SSLContext;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * @author Mark Vollmary
@@ -35,11 +38,16 @@ public class VstConnectionFactoryAsync implements ConnectionFactory {
     private final VstConnectionAsync.Builder builder;
 
     public VstConnectionFactoryAsync(final HostDescription host, final Integer timeout, final Long connectionTtl,
-                                     final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext) {
+                                     final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext,
+                                     final VstEventLoopGroup eventLoopGroup, final Integer writeCoalescingDelay,
+                                     final Integer writeCoalescingMaxBytes, final ThreadFactory threadFactory,
+                                     final BufferPool bufferPool) {
         super();
         builder = new VstConnectionAsync.Builder().timeout(timeout).ttl(connectionTtl)
                 .keepAliveInterval(keepAliveInterval).useSsl(useSsl)
-                .sslContext(sslContext);
+                .sslContext(sslContext).eventLoopGroup(eventLoopGroup)
+                .writeCoalescingDelay(writeCoalescingDelay).writeCoalescingMaxBytes(writeCoalescingMaxBytes)
+                .threadFactory(threadFactory).bufferPool(bufferPool);
     }
 
     @Override
@@ -0,0 +1,95 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+/**
+ * Snapshot of the statistics of a {@link com.arangodb.BulkWriter}.
+ */
+public class BulkWriterStats implements Entity {
+
+    private final long documents;
+    private final long failedDocuments;
+    private final long retriedDocuments;
+    private final long batches;
+    private final long bytes;
+    private final long elapsedTime;
+
+    public BulkWriterStats(final long documents, final long failedDocuments, final long retriedDocuments,
+                           final long batches, final long bytes, final long elapsedTime) {
+        super();
+        this.documents = documents;
+        this.failedDocuments = failedDocuments;
+        this.retriedDocuments = retriedDocuments;
+        this.batches = batches;
+        this.bytes = bytes;
+        this.elapsedTime = elapsedTime;
+    }
+
+    /**
+     * @return number of documents written
+     */
+    public long getDocuments() {
+        return documents;
+    }
+
+    /**
+     * @return number of documents which could not be written
+     */
+    public long getFailedDocuments() {
+        return failedDocuments;
+    }
+
+    /**
+     * @return number of times documents have been sent again
+     */
+    public long getRetriedDocuments() {
+        return retriedDocuments;
+    }
+
+    /**
+     * @return number of batches sent, including the retries
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * @return size in bytes of the serialized documents sent, including the retries
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return time in milliseconds since the writer has been created
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * @return average number of documents written per second
+     */
+    public double getDocumentsPerSecond() {
+        return elapsedTime > 0 ? documents * 1000.0 / elapsedTime : 0;
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+/**
+ * Snapshot of the connections to a host. With HTTP protocols they are the sockets of the pool of the host, with VST
+ * the connections to the host, where a connection is leased while it has requests in flight.
+ */
+public class ConnectionPoolStats implements Entity {
+
+    private final String host;
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int max;
+
+    public ConnectionPoolStats(final String host, final int leased, final int available, final int pending,
+                               final int max) {
+        super();
+        this.host = host;
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.max = max;
+    }
+
+    /**
+     * @return host and port
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return number of connections executing a request
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return number of open idle connections
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * @return number of requests waiting for a free connection
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * @return maximum number of connections
+     */
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStats [host=" + host + ", leased=" + leased + ", available=" + available + ", pending="
+                + pending + ", max=" + max + "]";
+    }
+
+}
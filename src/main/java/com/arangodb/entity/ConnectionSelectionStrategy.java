@@ -0,0 +1,43 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+/**
+ * Policy choosing, among the connections to a host, the one a request is sent over.
+ */
+public enum ConnectionSelectionStrategy {
+
+    /**
+     * uses the connections in turn, regardless of their load
+     */
+    ROUND_ROBIN,
+
+    /**
+     * uses the connection with the fewest requests waiting for a response, preferring open connections
+     */
+    LEAST_IN_FLIGHT,
+
+    /**
+     * compares two random connections and uses the one with fewer requests waiting for a response
+     */
+    POWER_OF_TWO_CHOICES
+
+}
@@ -0,0 +1,229 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.exception.VPackException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Read-only view of a document, reading its attributes directly from its VelocyPack representation without creating
+ * any intermediate object. Requested as result type of a cursor, it avoids the deserialization of the whole documents
+ * when only some of their attributes are read. Attributes of nested objects are read by passing their path, e.g.
+ * {@code getString("address", "city")}.
+ * <p>
+ * The position of every attribute read is remembered and shared with the views created through
+ * {@link #of(VPackSlice)}, so that the documents of a query result, which usually have their attributes in the same
+ * order, are read without searching the attributes.
+ */
+public final class DocumentView {
+
+    /**
+     * Cached positions of the attributes of an object and, recursively, of the attributes of its nested objects.
+     */
+    private static final class Attributes {
+        private final byte[] name;
+        private final Map<String, Attributes> children = new ConcurrentHashMap<>();
+        private volatile int index = -1;
+
+        private Attributes(final String name) {
+            super();
+            this.name = name != null ? name.getBytes(StandardCharsets.UTF_8) : null;
+        }
+
+        private Attributes child(final String name) {
+            return children.computeIfAbsent(name, Attributes::new);
+        }
+    }
+
+    private final VPackSlice slice;
+    private final Attributes attributes;
+
+    /**
+     * @param slice VelocyPack representation of the document
+     */
+    public DocumentView(final VPackSlice slice) {
+        this(slice, new Attributes(null));
+    }
+
+    private DocumentView(final VPackSlice slice, final Attributes attributes) {
+        super();
+        this.slice = slice;
+        this.attributes = attributes;
+    }
+
+    /**
+     * @param slice VelocyPack representation of another document
+     * @return view of the given document, sharing the cached attribute positions of this view
+     */
+    public DocumentView of(final VPackSlice slice) {
+        return new DocumentView(slice, attributes);
+    }
+
+    /**
+     * @return VelocyPack representation of the document
+     */
+    public VPackSlice getSlice() {
+        return slice;
+    }
+
+    /**
+     * @param path name of the attribute, preceded by the names of the objects containing it
+     * @return value of the attribute, {@link VPackSlice#isNone()} if it does not exist
+     */
+    public VPackSlice get(final String... path) {
+        try {
+            VPackSlice current = slice;
+            Attributes node = attributes;
+            for (final String name : path) {
+                if (!current.isObject()) {
+                    return VPackSlice.NONE_SLICE;
+                }
+                node = node.child(name);
+                current = find(current, node);
+                if (current.isNone()) {
+                    return current;
+                }
+            }
+            return current;
+        } catch (final VPackException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    private static VPackSlice find(final VPackSlice object, final Attributes attribute) {
+        final int size = object.size();
+        final int cached = attribute.index;
+        if (cached >= 0 && cached < size && matches(object.keyAt(cached), attribute.name)) {
+            return object.valueAt(cached);
+        }
+        for (int i = 0; i < size; i++) {
+            if (i != cached && matches(object.keyAt(i), attribute.name)) {
+                attribute.index = i;
+                return object.valueAt(i);
+            }
+        }
+        // system attributes can be stored as translated integer keys, which are not compared above
+        return object.get(new String(attribute.name, StandardCharsets.UTF_8));
+    }
+
+    private static boolean matches(final VPackSlice key, final byte[] name) {
+        return key.isString() && key.getAsStringSlice().compareToBytes(name) == 0;
+    }
+
+    /**
+     * @param path name of the attribute, preceded by the names of the objects containing it
+     * @return whether the attribute exists
+     */
+    public boolean contains(final String... path) {
+        return !get(path).isNone();
+    }
+
+    /**
+     * @param path name of the attribute, preceded by the names of the objects containing it
+     * @return value of the attribute, {@code null} if it does not exist or is {@code null}
+     */
+    public String getString(final String... path) {
+        final VPackSlice value = get(path);
+        return isAbsent(value) ? null : convert(value, VPackSlice::getAsString);
+    }
+
+    /**
+     * @param path name of the attribute, preceded by the names of the objects containing it
+     * @return value of the attribute, {@code null} if it does not exist or is {@code null}
+     */
+    public Long getLong(final String... path) {
+        final VPackSlice value = get(path);
+        return isAbsent(value) ? null : convert(value, VPackSlice::getAsLong);
+    }
+
+    /**
+     * @param path name of the attribute, preceded by the names of the objects containing it
+     * @return value of the attribute, {@code null} if it does not exist or is {@code null}
+     */
+    public Double getDouble(final String... path) {
+        final VPackSlice value = get(path);
+        return isAbsent(value) ? null : convert(value, VPackSlice::getAsDouble);
+    }
+
+    /**
+     * @param path name of the attribute, preceded by the names of the objects containing it
+     * @return value of the attribute, {@code null} if it does not exist or is {@code null}
+     */
+    public Boolean getBoolean(final String... path) {
+        final VPackSlice value = get(path);
+        return isAbsent(value) ? null : convert(value, VPackSlice::getAsBoolean);
+    }
+
+    /**
+     * @param path name of the attribute, preceded by the names of the objects containing it
+     * @return view of the object value of the attribute, {@code null} if it does not exist or is {@code null}
+     */
+    public DocumentView getView(final String... path) {
+        final VPackSlice value = get(path);
+        if (isAbsent(value)) {
+            return null;
+        }
+        if (!value.isObject()) {
+            throw new ArangoDBException("Attribute " + String.join(".", path) + " is not an object");
+        }
+        Attributes node = attributes;
+        for (final String name : path) {
+            node = node.child(name);
+        }
+        return new DocumentView(value, node);
+    }
+
+    public String getId() {
+        return getString(DocumentField.Type.ID.getSerializeName());
+    }
+
+    public String getKey() {
+        return getString(DocumentField.Type.KEY.getSerializeName());
+    }
+
+    public String getRevision() {
+        return getString(DocumentField.Type.REV.getSerializeName());
+    }
+
+    private static boolean isAbsent(final VPackSlice value) {
+        return value.isNone() || value.isNull();
+    }
+
+    private static <T> T convert(final VPackSlice value, final Function<VPackSlice, T> conversion) {
+        try {
+            return conversion.apply(value);
+        } catch (final VPackException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return slice.toString();
+    }
+
+}
@@ -24,5 +24,10 @@ package com.arangodb.entity;
  * @author Mark Vollmary
  */
 public enum LoadBalancingStrategy {
-    NONE, ROUND_ROBIN, ONE_RANDOM
+    NONE, ROUND_ROBIN, ONE_RANDOM,
+    /**
+     * Chooses between two random hosts the one with the lower moving average of the response times, weighted by its
+     * requests in flight. Hosts failing repeatedly are temporarily ejected.
+     */
+    LATENCY_AWARE
 }
@@ -22,6 +22,7 @@ package com.arangodb.internal;
 
 import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
 import com.arangodb.entity.*;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
@@ -30,6 +31,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * @author Mark Vollmary
@@ -81,6 +83,17 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
         return executor.execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
     }
 
+    @Override
+    public DocumentImportEntity importDocuments(final Stream<?> values, final DocumentImportOptions options)
+            throws ArangoDBException {
+        return executor.execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
+    }
+
+    @Override
+    public <T> BulkWriter<T> bulkWriter(final BulkWriterOptions options) {
+        return new BulkWriterImpl<>(this, options);
+    }
+
     @Override
     public DocumentImportEntity importDocuments(final String values) throws ArangoDBException {
         return importDocuments(values, new DocumentImportOptions());
@@ -28,6 +28,7 @@ import com.arangodb.entity.*;
 import com.arangodb.internal.http.HttpCommunication;
 import com.arangodb.internal.http.HttpProtocol;
 import com.arangodb.internal.net.CommunicationProtocol;
+import com.arangodb.internal.net.Host;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.net.HostResolver;
 import com.arangodb.internal.util.ArangoSerializationFactory;
@@ -47,6 +48,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.stream.Collectors;
 
 /**
  * @author Mark Vollmary
@@ -59,6 +61,7 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
 
     private ArangoCursorInitializer cursorInitializer;
     private final CommunicationProtocol cp;
+    private final HostResolver hostResolver;
 
     public ArangoDBImpl(final VstCommunicationSync.Builder vstBuilder, final HttpCommunication.Builder httpBuilder,
                         final ArangoSerializationFactory util, final Protocol protocol, final HostResolver hostResolver,
@@ -77,6 +80,7 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
                 util.get(Serializer.INTERNAL),
                 protocol);
 
+        this.hostResolver = hostResolver;
         hostResolver.init(this.executor(), util());
 
         LOGGER.debug("ArangoDB Client is ready to use");
@@ -113,6 +117,7 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
     @Override
     public void shutdown() throws ArangoDBException {
         try {
+            hostResolver.close();
             executor.disconnect();
         } finally {
             try {
@@ -123,6 +128,12 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
         }
     }
 
+    @Override
+    public Collection<ConnectionPoolStats> getConnectionPoolStats() {
+        return hostResolver.resolve(false, false).getHostsList().stream().map(Host::getConnectionPoolStats)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public ArangoDatabase db() {
         return db(ArangoRequestParam.SYSTEM);
@@ -37,6 +37,7 @@ import com.arangodb.velocystream.Request;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * @author Mark Vollmary
@@ -205,7 +206,7 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
             final AqlQueryOptions options,
             final HostHandle hostHandle) {
 
-        final ArangoCursorExecute execute = new ArangoCursorExecute() {
+        final ArangoCursorExecute execute = prefetch(killOnTimeout(new ArangoCursorExecute() {
             @Override
             public CursorEntity next(final String id, Map<String, String> meta) {
                 return executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle);
@@ -215,11 +216,17 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
             public void close(final String id, Map<String, String> meta) {
                 executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle);
             }
-        };
+        }, options), options, result);
 
-        return cursorInitializer != null ?
-                cursorInitializer.createInstance(this, execute, type, result) :
-                new ArangoCursorImpl<>(this, execute, type, result);
+        final Executor decodeExecutor = options != null ? options.getDeserializationExecutor() : null;
+        if (cursorInitializer != null) {
+            final ArangoCursor<T> cursor = cursorInitializer.createInstance(this, execute, type, result);
+            if (decodeExecutor != null && cursor instanceof ArangoCursorImpl) {
+                ((ArangoCursorImpl<T>) cursor).setDecodeExecutor(decodeExecutor);
+            }
+            return cursor;
+        }
+        return new ArangoCursorImpl<>(this, execute, type, result, decodeExecutor);
     }
 
     @Override
@@ -21,6 +21,7 @@
 package com.arangodb.internal;
 
 import com.arangodb.Protocol;
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.entity.LoadBalancingStrategy;
 
 /**
@@ -43,6 +44,7 @@ public final class ArangoDefaults {
     public static final int CHUNK_MIN_HEADER_SIZE = INTEGER_BYTES + INTEGER_BYTES + LONG_BYTES;
     public static final int CHUNK_MAX_HEADER_SIZE = CHUNK_MIN_HEADER_SIZE + LONG_BYTES;
     public static final int CHUNK_DEFAULT_CONTENT_SIZE = 30000;
+    public static final int DEFAULT_WRITE_COALESCING_MAX_BYTES = 64 * 1024;
     public static final int MAX_CONNECTIONS_VST_DEFAULT = 1;
     public static final Integer CONNECTION_TTL_VST_DEFAULT = null;
     public static final int MAX_CONNECTIONS_HTTP_DEFAULT = 20;
@@ -50,5 +52,6 @@ public final class ArangoDefaults {
     public static final boolean DEFAULT_ACQUIRE_HOST_LIST = false;
     public static final int DEFAULT_ACQUIRE_HOST_LIST_INTERVAL = 60 * 60 * 1000; // hour
     public static final LoadBalancingStrategy DEFAULT_LOAD_BALANCING_STRATEGY = LoadBalancingStrategy.NONE;
+    public static final ConnectionSelectionStrategy DEFAULT_CONNECTION_SELECTION_STRATEGY = ConnectionSelectionStrategy.LEAST_IN_FLIGHT;
 
 }
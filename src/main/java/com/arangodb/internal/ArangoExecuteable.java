@@ -29,7 +29,7 @@ import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
 
 import java.io.UnsupportedEncodingException;
-import java.util.Map.Entry;
+import java.util.Map;
 
 /**
  * @author Mark Vollmary
@@ -62,9 +62,17 @@ public abstract class ArangoExecuteable<E extends ArangoExecutor> {
     }
 
     protected Request request(final String database, final RequestType requestType, final String... path) {
-        final Request request = new Request(database, requestType, createPath(path));
-        for (final Entry<String, String> header : context.getHeaderParam().entrySet()) {
-            request.putHeaderParam(header.getKey(), header.getValue());
+        return encodedRequest(database, requestType, createPath(path));
+    }
+
+    /**
+     * @param path path of the request, already encoded with {@link #createPath(String...)}
+     */
+    protected Request encodedRequest(final String database, final RequestType requestType, final String path) {
+        final Request request = new Request(database, requestType, path);
+        final Map<String, String> headers = context.getHeaderParam();
+        if (!headers.isEmpty()) {
+            request.getHeaderParam().putAll(headers);
         }
         return request;
     }
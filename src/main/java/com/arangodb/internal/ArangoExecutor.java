@@ -20,9 +20,11 @@
 
 package com.arangodb.internal;
 
+import com.arangodb.entity.CursorEntity;
 import com.arangodb.entity.Entity;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.internal.velocystream.internal.PooledResponse;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Response;
 
@@ -39,15 +41,31 @@ public abstract class ArangoExecutor {
     protected <T> T createResult(final Type type, final Response response) {
         if (type != Void.class && response.getBody() != null) {
             if (isInternal(type)) {
-                return (T) util.get(Serializer.INTERNAL).deserialize(response.getBody(), type);
+                final T result = (T) util.get(Serializer.INTERNAL).deserialize(response.getBody(), type);
+                // CursorEntity keeps a slice of the response body
+                if (type != CursorEntity.class) {
+                    release(response);
+                }
+                return result;
             } else {
                 return (T) util.get(Serializer.CUSTOM).deserialize(response.getBody(), type);
             }
         } else {
+            release(response);
             return null;
         }
     }
 
+    /**
+     * Returns the buffer of the response to its pool. Must only be called if no value deserialized from the response
+     * body references it anymore.
+     */
+    protected static void release(final Response response) {
+        if (response instanceof PooledResponse) {
+            ((PooledResponse) response).release();
+        }
+    }
+
     private boolean isInternal(final Type type) {
         if (type instanceof ParameterizedType) {
             ParameterizedType pType = ((ParameterizedType) type);
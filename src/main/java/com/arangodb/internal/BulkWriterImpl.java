@@ -0,0 +1,407 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
+import com.arangodb.entity.BulkWriterStats;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.BulkWriterOptions;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.OverwriteMode;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+public class BulkWriterImpl<T> implements BulkWriter<T> {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_BATCH_BYTES = 4 * 1024 * 1024;
+    private static final long DEFAULT_LINGER_TIME = 100;
+    private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final Collection<Integer> DEFAULT_RETRYABLE_ERRORS = Arrays.asList(18, 1004, 1200, 1495, 1496);
+    private static final long RETRY_DELAY = 100;
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private static class Batch<T> {
+        private final List<T> documents = new ArrayList<>();
+        private final List<VPackSlice> values = new ArrayList<>();
+        private final long created = System.nanoTime();
+        private int bytes;
+
+        private void add(final T document, final VPackSlice value) {
+            documents.add(document);
+            values.add(value);
+            bytes += value.getByteSize();
+        }
+    }
+
+    private final InternalArangoCollection<?, ?, ArangoExecutorSync> collection;
+    private final int batchSize;
+    private final int batchBytes;
+    private final long lingerTime;
+    private final int maxRetries;
+    private final Set<Integer> retryableErrors;
+    private final DocumentCreateOptions createOptions;
+    private final BiConsumer<Object, ErrorEntity> errorHandler;
+
+    private final ReentrantLock lock;
+    private final Condition idle;
+    private final Semaphore permits;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService scheduler;
+    // guarded by lock
+    private Batch<T> batch;
+    private int pending;
+    private ArangoDBException failure;
+    private boolean closed;
+
+    private final long start;
+    private final LongAdder documents;
+    private final LongAdder failedDocuments;
+    private final LongAdder retriedDocuments;
+    private final LongAdder batches;
+    private final LongAdder bytes;
+
+    public BulkWriterImpl(final InternalArangoCollection<?, ?, ArangoExecutorSync> collection,
+                          final BulkWriterOptions options) {
+        super();
+        final BulkWriterOptions params = options != null ? options : new BulkWriterOptions();
+        this.collection = collection;
+        batchSize = positive(params.getBatchSize(), DEFAULT_BATCH_SIZE, "batchSize");
+        batchBytes = positive(params.getBatchBytes(), DEFAULT_BATCH_BYTES, "batchBytes");
+        lingerTime = params.getLingerTime() != null ? params.getLingerTime() : DEFAULT_LINGER_TIME;
+        if (lingerTime < 1) {
+            throw new IllegalArgumentException("lingerTime must be greater than 0");
+        }
+        final int maxInFlightBatches = positive(params.getMaxInFlightBatches(), DEFAULT_MAX_IN_FLIGHT_BATCHES,
+                "maxInFlightBatches");
+        maxRetries = params.getMaxRetries() != null ? params.getMaxRetries() : DEFAULT_MAX_RETRIES;
+        retryableErrors = new HashSet<>(params.getRetryableErrors() != null ? params.getRetryableErrors()
+                : DEFAULT_RETRYABLE_ERRORS);
+        createOptions = params.getCreateOptions() != null ? params.getCreateOptions() : new DocumentCreateOptions();
+        if (Boolean.TRUE == createOptions.getSilent()) {
+            throw new IllegalArgumentException("silent is not supported");
+        }
+        errorHandler = params.getErrorHandler();
+
+        lock = new ReentrantLock();
+        idle = lock.newCondition();
+        permits = new Semaphore(maxInFlightBatches);
+        final ThreadFactory threadFactory = r -> {
+            final Thread t = new Thread(r, "arangodb-bulk-writer-" + THREAD_ID.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+        senders = Executors.newFixedThreadPool(maxInFlightBatches, threadFactory);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        final long period = Math.max(1, lingerTime / 4);
+        scheduler.scheduleWithFixedDelay(this::linger, period, period, TimeUnit.MILLISECONDS);
+
+        start = System.nanoTime();
+        documents = new LongAdder();
+        failedDocuments = new LongAdder();
+        retriedDocuments = new LongAdder();
+        batches = new LongAdder();
+        bytes = new LongAdder();
+    }
+
+    private static int positive(final Integer value, final int defaultValue, final String name) {
+        final int v = value != null ? value : defaultValue;
+        if (v < 1) {
+            throw new IllegalArgumentException(name + " must be greater than 0");
+        }
+        return v;
+    }
+
+    @Override
+    public void add(final T document) throws ArangoDBException {
+        final VPackSlice value = collection.serializeElement(document, false);
+        Batch<T> full = null;
+        Batch<T> fullAfterAdd = null;
+        lock.lock();
+        try {
+            // checked holding the lock, so that no document is added after close() has taken the last batch
+            if (closed) {
+                throw new ArangoDBException("BulkWriter is closed");
+            }
+            if (batch != null && batch.bytes + value.getByteSize() > batchBytes) {
+                full = take();
+            }
+            if (batch == null) {
+                batch = new Batch<>();
+            }
+            batch.add(document, value);
+            if (batch.documents.size() >= batchSize || batch.bytes >= batchBytes) {
+                fullAfterAdd = take();
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            send(full);
+        } finally {
+            send(fullAfterAdd);
+        }
+    }
+
+    @Override
+    public void flush() throws ArangoDBException {
+        final Batch<T> last;
+        lock.lock();
+        try {
+            last = take();
+        } finally {
+            lock.unlock();
+        }
+        send(last);
+        final ArangoDBException e;
+        lock.lock();
+        try {
+            while (pending > 0) {
+                idle.awaitUninterruptibly();
+            }
+            e = failure;
+            failure = null;
+        } finally {
+            lock.unlock();
+        }
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    @Override
+    public BulkWriterStats getStats() {
+        return new BulkWriterStats(documents.sum(), failedDocuments.sum(), retriedDocuments.sum(), batches.sum(),
+                bytes.sum(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public void close() throws ArangoDBException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        scheduler.shutdown();
+        try {
+            flush();
+        } finally {
+            senders.shutdown();
+        }
+    }
+
+    /**
+     * Inserts the documents of a batch.
+     *
+     * @param documents documents of the batch
+     * @param values    serialized documents of the batch
+     * @return results of the documents, in the same order
+     */
+    protected MultiDocumentEntity<DocumentCreateEntity<T>> insert(final List<T> documents,
+                                                                  final List<VPackSlice> values) {
+        return collection.executor().execute(collection.insertDocumentsRequest(createOptions).setArrayBody(values),
+                collection.insertDocumentsResponseDeserializer(documents, createOptions));
+    }
+
+    // to be called holding the lock
+    private Batch<T> take() {
+        final Batch<T> taken = batch;
+        if (taken != null) {
+            batch = null;
+            pending++;
+        }
+        return taken;
+    }
+
+    private void linger() {
+        final Batch<T> old;
+        lock.lock();
+        try {
+            old = batch != null && System.nanoTime() - batch.created >= TimeUnit.MILLISECONDS.toNanos(lingerTime)
+                    ? take() : null;
+        } finally {
+            lock.unlock();
+        }
+        send(old);
+    }
+
+    private void send(final Batch<T> taken) {
+        if (taken == null) {
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            done(taken.documents.size(), new ArangoDBException(e));
+            throw new ArangoDBException(e);
+        }
+        try {
+            senders.execute(() -> {
+                try {
+                    write(taken.documents, taken.values);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            permits.release();
+            done(taken.documents.size(), new ArangoDBException(e));
+        }
+    }
+
+    private void write(final List<T> batchDocuments, final List<VPackSlice> batchValues) {
+        List<T> docs = batchDocuments;
+        List<VPackSlice> values = batchValues;
+        final boolean idempotent = isIdempotent(values);
+        for (int attempt = 0; ; attempt++) {
+            final List<T> retryDocs = new ArrayList<>();
+            final List<VPackSlice> retryValues = new ArrayList<>();
+            try {
+                batches.increment();
+                values.forEach(value -> bytes.add(value.getByteSize()));
+                final MultiDocumentEntity<DocumentCreateEntity<T>> result = insert(docs, values);
+                int i = 0;
+                for (final Object documentOrError : result.getDocumentsAndErrors()) {
+                    if (documentOrError instanceof ErrorEntity) {
+                        final ErrorEntity error = (ErrorEntity) documentOrError;
+                        if (attempt < maxRetries && retryableErrors.contains(error.getErrorNum())) {
+                            retryDocs.add(docs.get(i));
+                            retryValues.add(values.get(i));
+                        } else {
+                            rejected(docs.get(i), error);
+                        }
+                    } else {
+                        documents.increment();
+                    }
+                    i++;
+                }
+            } catch (final RuntimeException e) {
+                final ArangoDBException exception = e instanceof ArangoDBException ? (ArangoDBException) e
+                        : new ArangoDBException(e);
+                // the server could have applied the batch before failing, e.g. on a timeout
+                if (!idempotent || attempt >= maxRetries || !isRetryable(exception)) {
+                    done(docs.size(), exception);
+                    return;
+                }
+                retryDocs.clear();
+                retryValues.clear();
+                retryDocs.addAll(docs);
+                retryValues.addAll(values);
+            }
+            if (retryDocs.isEmpty()) {
+                done(0, null);
+                return;
+            }
+            retriedDocuments.add(retryDocs.size());
+            docs = retryDocs;
+            values = retryValues;
+            try {
+                Thread.sleep(RETRY_DELAY << Math.min(attempt, 10));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                done(docs.size(), new ArangoDBException(e));
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return whether inserting the documents again has no further effect, so that a failed batch can be sent again
+     * as a whole: every document has a key and the existing documents are not rejected as duplicates
+     */
+    private boolean isIdempotent(final List<VPackSlice> values) {
+        final OverwriteMode overwriteMode = createOptions.getOverwriteMode();
+        final boolean overwrite = overwriteMode != null ? overwriteMode != OverwriteMode.conflict
+                : Boolean.TRUE == createOptions.getOverwrite();
+        if (!overwrite) {
+            return false;
+        }
+        for (final VPackSlice value : values) {
+            if (!value.isObject() || !value.get(DocumentField.Type.KEY.getSerializeName()).isString()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isRetryable(final ArangoDBException e) {
+        // failed connections and server errors, but not the requests rejected as invalid
+        final Integer responseCode = e.getResponseCode();
+        return responseCode == null || responseCode >= 500 || retryableErrors.contains(e.getErrorNum());
+    }
+
+    private void rejected(final T document, final ErrorEntity error) {
+        failedDocuments.increment();
+        if (errorHandler == null) {
+            fail(new ArangoDBException(error));
+            return;
+        }
+        try {
+            errorHandler.accept(document, error);
+        } catch (final RuntimeException e) {
+            fail(new ArangoDBException(e));
+        }
+    }
+
+    private void done(final int failed, final ArangoDBException e) {
+        failedDocuments.add(failed);
+        lock.lock();
+        try {
+            if (e != null && failure == null) {
+                failure = e;
+            }
+            if (--pending == 0) {
+                idle.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fail(final ArangoDBException e) {
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -24,71 +24,124 @@ import com.arangodb.ArangoDBException;
 import com.arangodb.entity.DocumentField;
 import com.arangodb.entity.DocumentField.Type;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.Map.Entry;
 
 /**
+ * Sets the values of the fields annotated with {@link DocumentField} in the documents. The setters of every class are
+ * looked up once and cached in a {@link ClassValue}, so the cache can be shared between threads and does not keep the
+ * document classes from being unloaded.
+ *
  * @author Mark Vollmary
  */
 public class DocumentCache {
 
-    private final Map<Class<?>, Map<DocumentField.Type, Field>> cache;
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, String.class);
+
+    private static class Setters {
+        private static final Setters NONE = new Setters(Collections.emptyMap());
+
+        private final MethodHandle id;
+        private final MethodHandle key;
+        private final MethodHandle rev;
+
+        private Setters(final Map<DocumentField.Type, MethodHandle> setters) {
+            super();
+            id = setters.get(DocumentField.Type.ID);
+            key = setters.get(DocumentField.Type.KEY);
+            rev = setters.get(DocumentField.Type.REV);
+        }
+
+        private MethodHandle get(final DocumentField.Type type) {
+            switch (type) {
+                case ID:
+                    return id;
+                case KEY:
+                    return key;
+                case REV:
+                    return rev;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private final ClassValue<Setters> cache;
 
     public DocumentCache() {
         super();
-        cache = new HashMap<>();
+        cache = new ClassValue<Setters>() {
+            @Override
+            protected Setters computeValue(final Class<?> type) {
+                return isTypeRestricted(type) ? Setters.NONE : createSetters(type);
+            }
+        };
+    }
+
+    /**
+     * Sets the fields annotated with {@link DocumentField} of type {@code ID}, {@code KEY} and {@code REV} of the
+     * document, if any.
+     */
+    public void setValues(final Object doc, final String id, final String key, final String rev)
+            throws ArangoDBException {
+        final Setters setters = cache.get(doc.getClass());
+        set(setters.id, doc, id);
+        set(setters.key, doc, key);
+        set(setters.rev, doc, rev);
+    }
+
+    /**
+     * Sets the field annotated with {@link DocumentField} of type {@code REV} of the document, if any.
+     */
+    public void setRevision(final Object doc, final String rev) throws ArangoDBException {
+        set(cache.get(doc.getClass()).rev, doc, rev);
     }
 
     public void setValues(final Object doc, final Map<DocumentField.Type, String> values) throws ArangoDBException {
-        try {
-            final Map<DocumentField.Type, Field> fields = getFields(doc.getClass());
-            for (final Entry<DocumentField.Type, String> value : values.entrySet()) {
-                final Field field = fields.get(value.getKey());
-                if (field != null) {
-                    field.set(doc, value.getValue());
-                }
-            }
-        } catch (final IllegalArgumentException | IllegalAccessException e) {
-            throw new ArangoDBException(e);
+        final Setters setters = cache.get(doc.getClass());
+        for (final Entry<DocumentField.Type, String> value : values.entrySet()) {
+            set(setters.get(value.getKey()), doc, value.getValue());
         }
     }
 
-    private Map<DocumentField.Type, Field> getFields(final Class<?> clazz) {
-        Map<DocumentField.Type, Field> fields = new HashMap<>();
-        if (!isTypeRestricted(clazz)) {
-            fields = cache.get(clazz);
-            if (fields == null) {
-                fields = createFields(clazz);
-                cache.put(clazz, fields);
+    private static void set(final MethodHandle setter, final Object doc, final String value) {
+        if (setter != null) {
+            try {
+                setter.invokeExact(doc, value);
+            } catch (final Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new ArangoDBException(e);
             }
         }
-        return fields;
     }
 
-    private boolean isTypeRestricted(final Class<?> type) {
+    private static boolean isTypeRestricted(final Class<?> type) {
         return Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type);
     }
 
-    private Map<DocumentField.Type, Field> createFields(final Class<?> clazz) {
-        final Map<DocumentField.Type, Field> fields = new HashMap<>();
+    private static Setters createSetters(final Class<?> clazz) {
+        final Map<DocumentField.Type, MethodHandle> setters = new EnumMap<>(DocumentField.Type.class);
         Class<?> tmp = clazz;
-        final Collection<DocumentField.Type> values = new ArrayList<>(
-                Arrays.asList(DocumentField.Type.values()));
+        final Collection<DocumentField.Type> values = EnumSet.allOf(DocumentField.Type.class);
         while (tmp != null && tmp != Object.class && values.size() > 0) {
             final Field[] declaredFields = tmp.getDeclaredFields();
             for (int i = 0; i < declaredFields.length && values.size() > 0; i++) {
-                findAnnotation(values, fields, declaredFields[i]);
+                findAnnotation(values, setters, declaredFields[i]);
             }
             tmp = tmp.getSuperclass();
         }
-        return fields;
+        return setters.isEmpty() ? Setters.NONE : new Setters(setters);
     }
 
-    private void findAnnotation(
+    private static void findAnnotation(
             final Collection<Type> values,
-            final Map<DocumentField.Type, Field> fields,
+            final Map<DocumentField.Type, MethodHandle> setters,
             final Field field) {
         final DocumentField annotation = field.getAnnotation(DocumentField.class);
         if (annotation != null && !field.isSynthetic() && !Modifier.isStatic(field.getModifiers())
@@ -96,7 +149,11 @@ public class DocumentCache {
             final Type value = annotation.value();
             if (values.contains(value)) {
                 field.setAccessible(true);
-                fields.put(value, field);
+                try {
+                    setters.put(value, MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE));
+                } catch (final IllegalAccessException e) {
+                    throw new ArangoDBException(e);
+                }
                 values.remove(value);
             }
         }
@@ -29,11 +29,15 @@ import com.arangodb.internal.util.RequestUtils;
 import com.arangodb.model.*;
 import com.arangodb.util.ArangoSerializer;
 import com.arangodb.velocypack.Type;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 /**
  * @author Mark Vollmary
@@ -49,6 +53,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
     private static final String PATH_API_INDEX = "/_api/index";
     private static final String PATH_API_IMPORT = "/_api/import";
     private static final String PATH_API_USER = "/_api/user";
+    private static final VPackSlice NULL_ELEMENT = new VPackBuilder().add(ValueType.NULL).slice();
 
     private static final String MERGE_OBJECTS = "mergeObjects";
     private static final String IGNORE_REVS = "ignoreRevs";
@@ -62,8 +67,23 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
 
     private static final String TRANSACTION_ID = "x-arango-trx-id";
 
+    /**
+     * Encoded path of the documents of a collection, cached as long as the name of the collection does not change
+     */
+    private static final class DocumentPath {
+        private final String collection;
+        private final String path;
+
+        private DocumentPath(final String collection) {
+            super();
+            this.collection = collection;
+            path = createPath(PATH_API_DOCUMENT, collection);
+        }
+    }
+
     private final D db;
     protected volatile String name;
+    private volatile DocumentPath documentPath;
 
     protected InternalArangoCollection(final D db, final String name) {
         super(db.executor, db.util, db.context);
@@ -79,8 +99,27 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         return name;
     }
 
+    private String documentPath() {
+        final String collection = name;
+        DocumentPath path = documentPath;
+        if (path == null || !path.collection.equals(collection)) {
+            path = new DocumentPath(collection);
+            documentPath = path;
+        }
+        return path.path;
+    }
+
+    private Request documentRequest(final RequestType requestType) {
+        return encodedRequest(db.name(), requestType, documentPath());
+    }
+
+    private Request documentRequest(final RequestType requestType, final String key) {
+        DocumentUtil.validateDocumentKey(key);
+        return encodedRequest(db.name(), requestType, documentPath() + '/' + createPath(key));
+    }
+
     protected <T> Request insertDocumentRequest(final T value, final DocumentCreateOptions options) {
-        final Request request = request(db.name(), RequestType.POST, PATH_API_DOCUMENT, name);
+        final Request request = documentRequest(RequestType.POST);
         final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
         request.putQueryParam(ArangoRequestParam.WAIT_FOR_SYNC, params.getWaitForSync());
         request.putQueryParam(RETURN_NEW, params.getReturnNew());
@@ -110,18 +149,21 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
                 doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, value.getClass()));
             }
             if (options == null || Boolean.TRUE != options.getSilent()) {
-                final Map<DocumentField.Type, String> values = new HashMap<>();
-                values.put(DocumentField.Type.ID, doc.getId());
-                values.put(DocumentField.Type.KEY, doc.getKey());
-                values.put(DocumentField.Type.REV, doc.getRev());
-                executor.documentCache().setValues(value, values);
+                executor.documentCache().setValues(value, doc.getId(), doc.getKey(), doc.getRev());
             }
             return doc;
         };
     }
 
     protected <T> Request insertDocumentsRequest(final Collection<T> values, final DocumentCreateOptions params) {
-        final Request request = request(db.name(), RequestType.POST, PATH_API_DOCUMENT, name);
+        return insertDocumentsRequest(params).setArrayBody(serializeElements(values, false));
+    }
+
+    /**
+     * @return request inserting multiple documents, without body
+     */
+    protected Request insertDocumentsRequest(final DocumentCreateOptions params) {
+        final Request request = documentRequest(RequestType.POST);
         request.putQueryParam(ArangoRequestParam.WAIT_FOR_SYNC, params.getWaitForSync());
         request.putQueryParam(RETURN_NEW, params.getReturnNew());
         request.putQueryParam(RETURN_OLD, params.getReturnOld());
@@ -130,9 +172,6 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         request.putQueryParam(OVERWRITE_MODE, params.getOverwriteMode() != null ? params.getOverwriteMode().getValue() : null);
         request.putQueryParam(MERGE_OBJECTS, params.getMergeObjects());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
-
-        request.setBody(util(Serializer.CUSTOM)
-                .serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
         return request;
     }
 
@@ -184,9 +223,20 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         return importDocumentsRequest(options).putQueryParam("type", ImportType.auto).setBody(util().serialize(values));
     }
 
-    protected Request importDocumentsRequest(final Collection<?> values, final DocumentImportOptions options) {
-        return importDocumentsRequest(options).putQueryParam("type", ImportType.list).setBody(util(Serializer.CUSTOM)
-                .serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+    protected Request importDocumentsRequest(final Iterable<?> values, final DocumentImportOptions options) {
+        return importDocumentsRequest(options).putQueryParam("type", ImportType.list)
+                .setArrayBody(serializeElements(values, false));
+    }
+
+    protected <T> Request importDocumentsRequest(final Stream<T> values, final DocumentImportOptions options) {
+        final AtomicBoolean consumed = new AtomicBoolean();
+        final Iterable<T> once = () -> {
+            if (consumed.getAndSet(true)) {
+                throw new ArangoDBException("The values to import have already been consumed by a previous attempt");
+            }
+            return values.iterator();
+        };
+        return importDocumentsRequest(once, options);
     }
 
     protected Request importDocumentsRequest(final DocumentImportOptions options) {
@@ -199,12 +249,12 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
     }
 
     protected Request getDocumentRequest(final String key, final DocumentReadOptions options) {
-        final Request request = request(db.name(), RequestType.GET, PATH_API_DOCUMENT,
-                DocumentUtil.createDocumentHandle(name, key));
+        final Request request = documentRequest(RequestType.GET, key);
         final DocumentReadOptions params = (options != null ? options : new DocumentReadOptions());
         request.putHeaderParam(ArangoRequestParam.IF_NONE_MATCH, params.getIfNoneMatch());
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
+        request.setTimeout(params.getTimeout());
         if (params.getAllowDirtyRead() == Boolean.TRUE) {
             RequestUtils.allowDirtyRead(request);
         }
@@ -213,11 +263,12 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
 
     protected Request getDocumentsRequest(final Collection<String> keys, final DocumentReadOptions options) {
         final DocumentReadOptions params = (options != null ? options : new DocumentReadOptions());
-        final Request request = request(db.name(), RequestType.PUT, PATH_API_DOCUMENT, name)
+        final Request request = documentRequest(RequestType.PUT)
                 .putQueryParam("onlyget", true)
                 .putHeaderParam(ArangoRequestParam.IF_NONE_MATCH, params.getIfNoneMatch())
                 .putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch()).setBody(util().serialize(keys))
-                .putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
+                .putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId())
+                .setTimeout(params.getTimeout());
         if (params.getAllowDirtyRead() == Boolean.TRUE) {
             RequestUtils.allowDirtyRead(request);
         }
@@ -253,8 +304,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
 
     protected <T> Request replaceDocumentRequest(
             final String key, final T value, final DocumentReplaceOptions options) {
-        final Request request = request(db.name(), RequestType.PUT, PATH_API_DOCUMENT,
-                DocumentUtil.createDocumentHandle(name, key));
+        final Request request = documentRequest(RequestType.PUT, key);
         final DocumentReplaceOptions params = (options != null ? options : new DocumentReplaceOptions());
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
@@ -281,16 +331,14 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
                 doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, value.getClass()));
             }
             if (options == null || Boolean.TRUE != options.getSilent()) {
-                final Map<DocumentField.Type, String> values = new HashMap<>();
-                values.put(DocumentField.Type.REV, doc.getRev());
-                executor.documentCache().setValues(value, values);
+                executor.documentCache().setRevision(value, doc.getRev());
             }
             return doc;
         };
     }
 
     protected <T> Request replaceDocumentsRequest(final Collection<T> values, final DocumentReplaceOptions params) {
-        final Request request = request(db.name(), RequestType.PUT, PATH_API_DOCUMENT, name);
+        final Request request = documentRequest(RequestType.PUT);
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
         request.putQueryParam(ArangoRequestParam.WAIT_FOR_SYNC, params.getWaitForSync());
@@ -298,8 +346,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         request.putQueryParam(RETURN_NEW, params.getReturnNew());
         request.putQueryParam(RETURN_OLD, params.getReturnOld());
         request.putQueryParam(SILENT, params.getSilent());
-        request.setBody(util(Serializer.CUSTOM)
-                .serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+        request.setArrayBody(serializeElements(values, false));
         return request;
     }
 
@@ -348,8 +395,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
     }
 
     protected <T> Request updateDocumentRequest(final String key, final T value, final DocumentUpdateOptions options) {
-        final Request request = request(db.name(), RequestType.PATCH, PATH_API_DOCUMENT,
-                DocumentUtil.createDocumentHandle(name, key));
+        final Request request = documentRequest(RequestType.PATCH, key);
         final DocumentUpdateOptions params = (options != null ? options : new DocumentUpdateOptions());
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
@@ -379,16 +425,14 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
                 doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, returnType));
             }
             if (options == null || Boolean.TRUE != options.getSilent()) {
-                final Map<DocumentField.Type, String> values = new HashMap<>();
-                values.put(DocumentField.Type.REV, doc.getRev());
-                executor.documentCache().setValues(value, values);
+                executor.documentCache().setRevision(value, doc.getRev());
             }
             return doc;
         };
     }
 
     protected <T> Request updateDocumentsRequest(final Collection<T> values, final DocumentUpdateOptions params) {
-        final Request request = request(db.name(), RequestType.PATCH, PATH_API_DOCUMENT, name);
+        final Request request = documentRequest(RequestType.PATCH);
         final Boolean keepNull = params.getKeepNull();
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
@@ -399,9 +443,8 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         request.putQueryParam(RETURN_NEW, params.getReturnNew());
         request.putQueryParam(RETURN_OLD, params.getReturnOld());
         request.putQueryParam(SILENT, params.getSilent());
-        request.setBody(util(Serializer.CUSTOM).serialize(values, new ArangoSerializer.Options()
-                .serializeNullValues(params.getSerializeNull() == null || params.getSerializeNull())
-                .stringAsJson(true)));
+        request.setArrayBody(
+                serializeElements(values, params.getSerializeNull() == null || params.getSerializeNull()));
         return request;
     }
 
@@ -444,8 +487,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
     }
 
     protected Request deleteDocumentRequest(final String key, final DocumentDeleteOptions options) {
-        final Request request = request(db.name(), RequestType.DELETE, PATH_API_DOCUMENT,
-                DocumentUtil.createDocumentHandle(name, key));
+        final Request request = documentRequest(RequestType.DELETE, key);
         final DocumentDeleteOptions params = (options != null ? options : new DocumentDeleteOptions());
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
@@ -469,7 +511,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
     }
 
     protected <T> Request deleteDocumentsRequest(final Collection<T> keys, final DocumentDeleteOptions options) {
-        final Request request = request(db.name(), RequestType.DELETE, PATH_API_DOCUMENT, name);
+        final Request request = documentRequest(RequestType.DELETE);
         final DocumentDeleteOptions params = (options != null ? options : new DocumentDeleteOptions());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
         request.putQueryParam(ArangoRequestParam.WAIT_FOR_SYNC, params.getWaitForSync());
@@ -513,8 +555,7 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
     }
 
     protected Request documentExistsRequest(final String key, final DocumentExistsOptions options) {
-        final Request request = request(db.name(), RequestType.HEAD, PATH_API_DOCUMENT,
-                DocumentUtil.createDocumentHandle(name, key));
+        final Request request = documentRequest(RequestType.HEAD, key);
         final DocumentExistsOptions params = (options != null ? options : new DocumentExistsOptions());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
         request.putHeaderParam(ArangoRequestParam.IF_MATCH, params.getIfMatch());
@@ -690,4 +731,32 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         };
     }
 
+    /**
+     * @return elements of an array body, serialized one at a time while the body is written
+     */
+    private Iterable<VPackSlice> serializeElements(final Iterable<?> values, final boolean serializeNullValues) {
+        return () -> {
+            final Iterator<?> iterator = values.iterator();
+            return new Iterator<VPackSlice>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public VPackSlice next() {
+                    return serializeElement(iterator.next(), serializeNullValues);
+                }
+            };
+        };
+    }
+
+    /**
+     * @return element of an array body
+     */
+    protected VPackSlice serializeElement(final Object value, final boolean serializeNullValues) {
+        return value != null ? util(Serializer.CUSTOM).serialize(value, new ArangoSerializer.Options()
+                .serializeNullValues(serializeNullValues).stringAsJson(true)) : NULL_ELEMENT;
+    }
+
 }
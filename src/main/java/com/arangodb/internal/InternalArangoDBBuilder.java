@@ -22,6 +22,7 @@ package com.arangodb.internal;
 
 import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.entity.LoadBalancingStrategy;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
@@ -32,11 +33,13 @@ import com.arangodb.internal.net.Host;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.net.HostHandler;
 import com.arangodb.internal.net.HostResolver;
+import com.arangodb.internal.net.LatencyAwareHostHandler;
 import com.arangodb.internal.net.RandomHostHandler;
 import com.arangodb.internal.net.RoundRobinHostHandler;
 import com.arangodb.internal.net.SimpleHostResolver;
 import com.arangodb.internal.util.HostUtils;
 import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.util.ArangoDeserializer;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.util.ArangoSerializer;
@@ -54,6 +57,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ThreadFactory;
 
 
 /**
@@ -75,6 +79,10 @@ public abstract class InternalArangoDBBuilder {
     private static final String PROPERTY_KEY_MAX_CONNECTIONS = "arangodb.connections.max";
     private static final String PROPERTY_KEY_CONNECTION_TTL = "arangodb.connections.ttl";
     private static final String PROPERTY_KEEP_ALIVE_INTERVAL = "arangodb.connections.keepAlive.interval";
+    private static final String PROPERTY_KEY_EVENT_LOOP_THREADS = "arangodb.connections.eventLoop.threads";
+    private static final String PROPERTY_KEY_WRITE_COALESCING_DELAY = "arangodb.connections.writeCoalescing.delay";
+    private static final String PROPERTY_KEY_WRITE_COALESCING_MAX_BYTES = "arangodb.connections.writeCoalescing.maxBytes";
+    private static final String PROPERTY_KEY_CONNECTION_SELECTION_STRATEGY = "arangodb.connections.selectionStrategy";
     private static final String PROPERTY_KEY_ACQUIRE_HOST_LIST = "arangodb.acquireHostList";
     private static final String PROPERTY_KEY_ACQUIRE_HOST_LIST_INTERVAL = "arangodb.acquireHostList.interval";
     private static final String PROPERTY_KEY_LOAD_BALANCING_STRATEGY = "arangodb.loadBalancingStrategy";
@@ -94,6 +102,11 @@ public abstract class InternalArangoDBBuilder {
     protected Integer maxConnections;
     protected Long connectionTtl;
     protected Integer keepAliveInterval;
+    protected Integer eventLoopThreads;
+    protected Integer writeCoalescingDelay;
+    protected Integer writeCoalescingMaxBytes;
+    protected ThreadFactory threadFactory;
+    protected ConnectionSelectionStrategy connectionSelectionStrategy;
     protected final VPack.Builder vpackBuilder;
     protected final VPackParser.Builder vpackParserBuilder;
     protected ArangoSerializer serializer;
@@ -149,6 +162,10 @@ public abstract class InternalArangoDBBuilder {
         maxConnections = loadMaxConnections(properties, maxConnections);
         connectionTtl = loadConnectionTtl(properties, connectionTtl);
         keepAliveInterval = loadKeepAliveInterval(properties, keepAliveInterval);
+        eventLoopThreads = loadEventLoopThreads(properties, eventLoopThreads);
+        writeCoalescingDelay = loadWriteCoalescingDelay(properties, writeCoalescingDelay);
+        writeCoalescingMaxBytes = loadWriteCoalescingMaxBytes(properties, writeCoalescingMaxBytes);
+        connectionSelectionStrategy = loadConnectionSelectionStrategy(properties, connectionSelectionStrategy);
         acquireHostList = loadAcquireHostList(properties, acquireHostList);
         acquireHostListInterval = loadAcquireHostListInterval(properties, acquireHostListInterval);
         loadBalancingStrategy = loadLoadBalancingStrategy(properties, loadBalancingStrategy);
@@ -202,6 +219,26 @@ public abstract class InternalArangoDBBuilder {
         this.keepAliveInterval = keepAliveInterval;
     }
 
+    protected void setEventLoopThreads(final Integer eventLoopThreads) {
+        this.eventLoopThreads = eventLoopThreads;
+    }
+
+    protected void setWriteCoalescingDelay(final Integer writeCoalescingDelay) {
+        this.writeCoalescingDelay = writeCoalescingDelay;
+    }
+
+    protected void setWriteCoalescingMaxBytes(final Integer writeCoalescingMaxBytes) {
+        this.writeCoalescingMaxBytes = writeCoalescingMaxBytes;
+    }
+
+    protected void setThreadFactory(final ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    protected void setConnectionSelectionStrategy(final ConnectionSelectionStrategy connectionSelectionStrategy) {
+        this.connectionSelectionStrategy = connectionSelectionStrategy;
+    }
+
     protected void setAcquireHostList(final Boolean acquireHostList) {
         this.acquireHostList = acquireHostList;
     }
@@ -255,6 +292,9 @@ public abstract class InternalArangoDBBuilder {
                 case ROUND_ROBIN:
                     hostHandler = new RoundRobinHostHandler(hostResolver);
                     break;
+                case LATENCY_AWARE:
+                    hostHandler = new LatencyAwareHostHandler(hostResolver);
+                    break;
                 case NONE:
                 default:
                     hostHandler = new FallbackHostHandler(hostResolver);
@@ -269,11 +309,20 @@ public abstract class InternalArangoDBBuilder {
         return new DirtyReadHostHandler(hostHandler, new RoundRobinHostHandler(hostResolver));
     }
 
+    protected VstEventLoopGroup createEventLoopGroup() {
+        if (eventLoopThreads != null && eventLoopThreads > 0) {
+            LOG.debug("Use VstEventLoopGroup with " + eventLoopThreads + " threads");
+            return new VstEventLoopGroup(eventLoopThreads);
+        }
+        return null;
+    }
+
     protected HostResolver createHostResolver(final Collection<Host> hosts, final int maxConnections, final ConnectionFactory connectionFactory) {
 
         if (acquireHostList != null && acquireHostList) {
             LOG.debug("acquireHostList -> Use ExtendedHostResolver");
-            return new ExtendedHostResolver(new ArrayList<>(hosts), maxConnections, connectionFactory, acquireHostListInterval);
+            return new ExtendedHostResolver(new ArrayList<>(hosts), maxConnections, connectionFactory,
+                    acquireHostListInterval, connectionSelectionStrategy);
         } else {
             LOG.debug("Use SimpleHostResolver");
             return new SimpleHostResolver(new ArrayList<>(hosts));
@@ -339,6 +388,24 @@ public abstract class InternalArangoDBBuilder {
         return keepAliveInterval != null ? Integer.parseInt(keepAliveInterval) : null;
     }
 
+    private static Integer loadEventLoopThreads(final Properties properties, final Integer currentValue) {
+        final String eventLoopThreads = getProperty(properties, PROPERTY_KEY_EVENT_LOOP_THREADS, currentValue,
+                null);
+        return eventLoopThreads != null ? Integer.parseInt(eventLoopThreads) : null;
+    }
+
+    private static Integer loadWriteCoalescingDelay(final Properties properties, final Integer currentValue) {
+        final String writeCoalescingDelay = getProperty(properties, PROPERTY_KEY_WRITE_COALESCING_DELAY, currentValue,
+                null);
+        return writeCoalescingDelay != null ? Integer.parseInt(writeCoalescingDelay) : null;
+    }
+
+    private static Integer loadWriteCoalescingMaxBytes(final Properties properties, final Integer currentValue) {
+        final String writeCoalescingMaxBytes = getProperty(properties, PROPERTY_KEY_WRITE_COALESCING_MAX_BYTES,
+                currentValue, null);
+        return writeCoalescingMaxBytes != null ? Integer.parseInt(writeCoalescingMaxBytes) : null;
+    }
+
     private static Boolean loadAcquireHostList(final Properties properties, final Boolean currentValue) {
         return Boolean.parseBoolean(getProperty(properties, PROPERTY_KEY_ACQUIRE_HOST_LIST, currentValue,
                 ArangoDefaults.DEFAULT_ACQUIRE_HOST_LIST));
@@ -356,6 +423,13 @@ public abstract class InternalArangoDBBuilder {
                 ArangoDefaults.DEFAULT_LOAD_BALANCING_STRATEGY).toUpperCase());
     }
 
+    private static ConnectionSelectionStrategy loadConnectionSelectionStrategy(
+            final Properties properties,
+            final ConnectionSelectionStrategy currentValue) {
+        return ConnectionSelectionStrategy.valueOf(getProperty(properties, PROPERTY_KEY_CONNECTION_SELECTION_STRATEGY,
+                currentValue, ArangoDefaults.DEFAULT_CONNECTION_SELECTION_STRATEGY).toUpperCase());
+    }
+
     protected static <T> String getProperty(
             final Properties properties,
             final String key,
@@ -378,7 +452,7 @@ public abstract class InternalArangoDBBuilder {
             final ConnectionFactory connectionFactory) {
         final Collection<Host> hostList = new ArrayList<>();
         for (final HostDescription host : hosts) {
-            hostList.add(HostUtils.createHost(host, maxConnections, connectionFactory));
+            hostList.add(HostUtils.createHost(host, maxConnections, connectionFactory, connectionSelectionStrategy));
         }
         return hostList;
     }
@@ -20,10 +20,12 @@
 
 package com.arangodb.internal;
 
+import com.arangodb.ArangoDBException;
 import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
+import com.arangodb.internal.cursor.PrefetchingCursorExecute;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.internal.util.RequestUtils;
@@ -42,6 +44,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
 
 /**
  * @author Mark Vollmary
@@ -180,6 +185,7 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
             RequestUtils.allowDirtyRead(request);
         }
         request.putHeaderParam(TRANSACTION_ID, opt.getStreamTransactionId());
+        request.setTimeout(opt.getTimeout());
         return request;
     }
 
@@ -197,6 +203,7 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
             RequestUtils.allowDirtyRead(request);
         }
         request.putHeaderParam(TRANSACTION_ID, opt.getStreamTransactionId());
+        request.setTimeout(opt.getTimeout());
         return request;
     }
 
@@ -214,9 +221,114 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
             RequestUtils.allowDirtyRead(request);
         }
         request.putHeaderParam(TRANSACTION_ID, opt.getStreamTransactionId());
+        request.setTimeout(opt.getTimeout());
         return request;
     }
 
+    /**
+     * Decorates the given cursor execution, deleting the cursor on the server when fetching its next batch times out
+     * and {@link AqlQueryOptions#killOnTimeout(Boolean)} is set.
+     */
+    protected ArangoCursorExecute killOnTimeout(final ArangoCursorExecute execute, final AqlQueryOptions options) {
+        if (options == null || options.getKillOnTimeout() != Boolean.TRUE) {
+            return execute;
+        }
+        return new ArangoCursorExecute() {
+            @Override
+            public CursorEntity next(final String id, final Map<String, String> meta) {
+                try {
+                    return execute.next(id, meta);
+                } catch (final ArangoDBException e) {
+                    if (isTimeout(e)) {
+                        try {
+                            execute.close(id, meta);
+                        } catch (final ArangoDBException closeException) {
+                            e.addSuppressed(closeException);
+                        }
+                    }
+                    throw e;
+                }
+            }
+
+            @Override
+            public void close(final String id, final Map<String, String> meta) {
+                execute.close(id, meta);
+            }
+        };
+    }
+
+    /**
+     * Decorates the given cursor execution, fetching the next batches in the background when
+     * {@link AqlQueryOptions#prefetchBatches(Integer)} is set.
+     */
+    protected ArangoCursorExecute prefetch(final ArangoCursorExecute execute, final AqlQueryOptions options,
+                                           final CursorEntity result) {
+        final Integer batches = options != null ? options.getPrefetchBatches() : null;
+        if (batches == null || batches < 1 || !Boolean.TRUE.equals(result.getHasMore())) {
+            return execute;
+        }
+        return new PrefetchingCursorExecute(PrefetchingCursorExecute.fromBlocking(execute), batches, result);
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #killOnTimeout(ArangoCursorExecute, AqlQueryOptions)}. The cursor is deleted
+     * from the given executor, since the timed out future is failed by the timer wheel, which must never be blocked by
+     * sending a request.
+     */
+    protected ArangoCursorAsyncExecute killOnTimeout(final ArangoCursorAsyncExecute execute,
+                                                     final AqlQueryOptions options, final Executor killExecutor) {
+        if (options == null || options.getKillOnTimeout() != Boolean.TRUE) {
+            return execute;
+        }
+        return new ArangoCursorAsyncExecute() {
+            @Override
+            public CompletableFuture<CursorEntity> next(final String id, final Map<String, String> meta) {
+                final CompletableFuture<CursorEntity> next = new CompletableFuture<>();
+                execute.next(id, meta).whenComplete((result, e) -> {
+                    if (e == null) {
+                        next.complete(result);
+                    } else if (isTimeout(e)) {
+                        killExecutor.execute(() -> execute.close(id, meta).whenComplete((v, closeException) -> {
+                            if (closeException != null) {
+                                e.addSuppressed(closeException);
+                            }
+                            next.completeExceptionally(e);
+                        }));
+                    } else {
+                        next.completeExceptionally(e);
+                    }
+                });
+                return next;
+            }
+
+            @Override
+            public CompletableFuture<Void> close(final String id, final Map<String, String> meta) {
+                return execute.close(id, meta);
+            }
+        };
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #prefetch(ArangoCursorExecute, AqlQueryOptions, CursorEntity)}.
+     */
+    protected ArangoCursorAsyncExecute prefetch(final ArangoCursorAsyncExecute execute, final AqlQueryOptions options,
+                                                final CursorEntity result) {
+        final Integer batches = options != null ? options.getPrefetchBatches() : null;
+        if (batches == null || batches < 1 || !Boolean.TRUE.equals(result.getHasMore())) {
+            return execute;
+        }
+        return new PrefetchingCursorExecute(execute, batches, result).asAsync();
+    }
+
+    private static boolean isTimeout(final Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected Request explainQueryRequest(
             final String query,
             final Map<String, Object> bindVars,
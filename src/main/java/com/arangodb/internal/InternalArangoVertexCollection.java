@@ -20,7 +20,6 @@
 
 package com.arangodb.internal;
 
-import com.arangodb.entity.DocumentField;
 import com.arangodb.entity.VertexEntity;
 import com.arangodb.entity.VertexUpdateEntity;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
@@ -33,9 +32,6 @@ import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * @author Mark Vollmary
  */
@@ -82,11 +78,7 @@ public abstract class InternalArangoVertexCollection<A extends InternalArangoDB<
         return response -> {
             final VPackSlice body = response.getBody().get(VERTEX);
             final VertexEntity doc = util().deserialize(body, VertexEntity.class);
-            final Map<DocumentField.Type, String> values = new HashMap<>();
-            values.put(DocumentField.Type.ID, doc.getId());
-            values.put(DocumentField.Type.KEY, doc.getKey());
-            values.put(DocumentField.Type.REV, doc.getRev());
-            executor.documentCache().setValues(value, values);
+            executor.documentCache().setValues(value, doc.getId(), doc.getKey(), doc.getRev());
             return doc;
         };
     }
@@ -123,9 +115,7 @@ public abstract class InternalArangoVertexCollection<A extends InternalArangoDB<
         return response -> {
             final VPackSlice body = response.getBody().get(VERTEX);
             final VertexUpdateEntity doc = util().deserialize(body, VertexUpdateEntity.class);
-            final Map<DocumentField.Type, String> values = new HashMap<>();
-            values.put(DocumentField.Type.REV, doc.getRev());
-            executor.documentCache().setValues(value, values);
+            executor.documentCache().setRevision(value, doc.getRev());
             return doc;
         };
     }
@@ -148,9 +138,7 @@ public abstract class InternalArangoVertexCollection<A extends InternalArangoDB<
         return response -> {
             final VPackSlice body = response.getBody().get(VERTEX);
             final VertexUpdateEntity doc = util().deserialize(body, VertexUpdateEntity.class);
-            final Map<DocumentField.Type, String> values = new HashMap<>();
-            values.put(DocumentField.Type.REV, doc.getRev());
-            executor.documentCache().setValues(value, values);
+            executor.documentCache().setRevision(value, doc.getRev());
             return doc;
         };
     }
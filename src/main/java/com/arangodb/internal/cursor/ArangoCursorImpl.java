@@ -33,6 +33,8 @@ import com.arangodb.internal.InternalArangoDatabase;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
 
 /**
  * @author Mark Vollmary
@@ -46,13 +48,30 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
 
     public ArangoCursorImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecute execute,
                             final Class<T> type, final CursorEntity result) {
+        this(db, execute, type, result, null);
+    }
+
+    /**
+     * @param decodeExecutor executor on which the elements of every batch are deserialized in parallel, can be null
+     */
+    public ArangoCursorImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecute execute,
+                            final Class<T> type, final CursorEntity result, final Executor decodeExecutor) {
         super();
         this.execute = execute;
         this.type = type;
         iterator = createIterator(this, db, execute, result);
+        iterator.setDecodeExecutor(decodeExecutor);
         id = result.getId();
     }
 
+    /**
+     * @param decodeExecutor executor on which the elements of every batch, starting with the current one, are
+     *                       deserialized in parallel, can be null
+     */
+    public void setDecodeExecutor(final Executor decodeExecutor) {
+        iterator.setDecodeExecutor(decodeExecutor);
+    }
+
     protected ArangoCursorIterator<T> createIterator(
             final ArangoCursor<T> cursor,
             final InternalArangoDatabase<?, ?> db,
@@ -130,6 +149,39 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
         return iterator;
     }
 
+    /**
+     * @return spliterator splitting off the current batch, whose elements are then deserialized by the thread
+     * traversing them, so that parallel streams of the cursor deserialize the elements in parallel
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new Spliterator<T>() {
+            @Override
+            public boolean tryAdvance(final java.util.function.Consumer<? super T> action) {
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                action.accept(iterator.next());
+                return true;
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                return iterator.splitBatch();
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return ORDERED;
+            }
+        };
+    }
+
     @Override
     public void foreach(final Consumer<? super T> action) {
         while (hasNext()) {
@@ -21,15 +21,25 @@
 package com.arangodb.internal.cursor;
 
 import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoIterator;
 import com.arangodb.entity.CursorEntity;
+import com.arangodb.entity.DocumentView;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.velocypack.VPackSlice;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 /**
  * @param <T>
@@ -37,12 +47,19 @@ import java.util.NoSuchElementException;
  */
 public class ArangoCursorIterator<T> implements ArangoIterator<T> {
 
+    // minimum number of elements decoded by each task of a parallel decoding
+    private static final int MIN_DECODE_CHUNK = 16;
+
     private CursorEntity result;
     private Iterator<VPackSlice> arrayIterator;
+    // elements of the current batch, when decoded in parallel
+    private Iterator<T> decoded;
 
     private final ArangoCursor<T> cursor;
     private final InternalArangoDatabase<?, ?> db;
     private final ArangoCursorExecute execute;
+    private Executor decodeExecutor;
+    private DocumentView view;
 
     protected ArangoCursorIterator(final ArangoCursor<T> cursor, final ArangoCursorExecute execute,
                                    final InternalArangoDatabase<?, ?> db, final CursorEntity result) {
@@ -58,24 +75,145 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
         return result;
     }
 
+    /**
+     * Replaces the current batch with the given one, fetched without this iterator.
+     */
+    public void setResult(final CursorEntity result) {
+        this.result = result;
+        arrayIterator = result.getResult().arrayIterator();
+        decoded = null;
+        if (decodeExecutor != null) {
+            decodeBatch();
+        }
+    }
+
+    /**
+     * Makes the elements of every batch, starting with the current one, be decoded in parallel on the given executor
+     * as soon as the batch is received.
+     */
+    public void setDecodeExecutor(final Executor decodeExecutor) {
+        this.decodeExecutor = decodeExecutor;
+        if (decodeExecutor != null && decoded == null) {
+            decodeBatch();
+        }
+    }
+
+    private void decodeBatch() {
+        final List<VPackSlice> slices = remainingSlices();
+        final int size = slices.size();
+        final Class<T> type = cursor.getType();
+        final int parallelism = decodeExecutor instanceof ForkJoinPool
+                ? ((ForkJoinPool) decodeExecutor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        final int chunks = Math.min(parallelism, size / MIN_DECODE_CHUNK);
+        final List<T> elements;
+        if (chunks < 2 || type == DocumentView.class) {
+            elements = decode(slices, 0, size, type);
+        } else {
+            // the chunks are decoded by the executor, the last one by the current thread
+            final List<CompletableFuture<List<T>>> tasks = new ArrayList<>(chunks - 1);
+            for (int i = 0; i < chunks - 1; i++) {
+                final int from = size * i / chunks;
+                final int to = size * (i + 1) / chunks;
+                tasks.add(CompletableFuture.supplyAsync(() -> decode(slices, from, to, type), decodeExecutor));
+            }
+            final List<T> last = decode(slices, size * (chunks - 1) / chunks, size, type);
+            elements = new ArrayList<>(size);
+            for (final CompletableFuture<List<T>> task : tasks) {
+                try {
+                    elements.addAll(task.join());
+                } catch (final CompletionException e) {
+                    final Throwable cause = e.getCause();
+                    throw cause instanceof ArangoDBException ? (ArangoDBException) cause : new ArangoDBException(cause);
+                }
+            }
+            elements.addAll(last);
+        }
+        decoded = elements.iterator();
+    }
+
+    private List<T> decode(final List<VPackSlice> slices, final int from, final int to, final Class<T> type) {
+        final List<T> elements = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            elements.add(deserialize(slices.get(i), type));
+        }
+        return elements;
+    }
+
+    private List<VPackSlice> remainingSlices() {
+        final List<VPackSlice> slices = new ArrayList<>();
+        while (arrayIterator.hasNext()) {
+            slices.add(arrayIterator.next());
+        }
+        return slices;
+    }
+
+    private boolean hasNextInBatch() {
+        return decoded != null ? decoded.hasNext() : arrayIterator.hasNext();
+    }
+
+    private T nextInBatch() {
+        return decoded != null ? decoded.next() : deserialize(arrayIterator.next(), cursor.getType());
+    }
+
+    /**
+     * @return the elements of the current batch not consumed yet
+     */
+    public List<T> remaining() {
+        final List<T> remaining = new ArrayList<>();
+        while (hasNextInBatch()) {
+            remaining.add(nextInBatch());
+        }
+        return remaining;
+    }
+
+    /**
+     * Takes the elements of the current batch not consumed yet, fetching the next batch first if there are none. The
+     * returned spliterator decodes them on the thread traversing it, and can be further split.
+     *
+     * @return spliterator of the taken elements, {@code null} if the cursor is exhausted
+     */
+    public Spliterator<T> splitBatch() {
+        if (!hasNextInBatch()) {
+            if (!result.getHasMore()) {
+                return null;
+            }
+            setResult(execute.next(cursor.getId(), result.getMeta()));
+        }
+        if (decoded != null) {
+            return remaining().spliterator();
+        }
+        final Class<T> type = cursor.getType();
+        if (type == DocumentView.class) {
+            // views share their attribute positions through this iterator, they are cheap to create anyway
+            return remaining().spliterator();
+        }
+        return new DecodingSpliterator(remainingSlices(), 0, type);
+    }
+
     @Override
     public boolean hasNext() {
-        return arrayIterator.hasNext() || result.getHasMore();
+        return hasNextInBatch() || result.getHasMore();
     }
 
     @Override
     public T next() {
-        if (!arrayIterator.hasNext() && result.getHasMore()) {
-            result = execute.next(cursor.getId(), result.getMeta());
-            arrayIterator = result.getResult().arrayIterator();
+        if (!hasNextInBatch() && result.getHasMore()) {
+            setResult(execute.next(cursor.getId(), result.getMeta()));
         }
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return deserialize(arrayIterator.next(), cursor.getType());
+        return nextInBatch();
     }
 
+    @SuppressWarnings("unchecked")
     protected <R> R deserialize(final VPackSlice result, final Class<R> type) {
+        if (type == DocumentView.class) {
+            // the documents of a result usually share their layout, their views share the attribute positions
+            view = view == null ? new DocumentView(result) : view.of(result);
+            return (R) view;
+        }
         return db.util(Serializer.CUSTOM).deserialize(result, type);
     }
 
@@ -84,4 +222,59 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Spliterator decoding the elements of a part of a batch while traversing them, split by index.
+     */
+    private class DecodingSpliterator implements Spliterator<T> {
+
+        private final List<VPackSlice> slices;
+        private final Class<T> type;
+        private int index;
+        private int end;
+
+        DecodingSpliterator(final List<VPackSlice> slices, final int index, final Class<T> type) {
+            this(slices, index, slices.size(), type);
+        }
+
+        private DecodingSpliterator(final List<VPackSlice> slices, final int index, final int end,
+                                    final Class<T> type) {
+            super();
+            this.slices = slices;
+            this.index = index;
+            this.end = end;
+            this.type = type;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(deserialize(slices.get(index++), type));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int mid = (index + end) >>> 1;
+            if (mid - index < MIN_DECODE_CHUNK) {
+                return null;
+            }
+            final Spliterator<T> prefix = new DecodingSpliterator(slices, index, mid, type);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+
+    }
+
 }
@@ -0,0 +1,175 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorAsyncExecute;
+import com.arangodb.internal.ArangoCursorExecute;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cursor execution fetching the next batches of a cursor in the background, while the current batch is consumed. The
+ * batches are fetched one after the other, since the server does not allow concurrent requests on the same cursor, and
+ * at most {@code batches} of them are buffered. The batches can be consumed blocking, as {@link ArangoCursorExecute},
+ * or non-blocking through {@link #asAsync()}, but only by one thread at a time.
+ */
+public class PrefetchingCursorExecute implements ArangoCursorExecute {
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        final Thread t = new Thread(r, "arangodb-cursor-prefetch-" + THREAD_ID.getAndIncrement());
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * @return non-blocking execution running the given blocking one on a shared daemon thread pool
+     */
+    public static ArangoCursorAsyncExecute fromBlocking(final ArangoCursorExecute execute) {
+        return new ArangoCursorAsyncExecute() {
+            @Override
+            public CompletableFuture<CursorEntity> next(final String id, final Map<String, String> meta) {
+                return CompletableFuture.supplyAsync(() -> execute.next(id, meta), EXECUTOR);
+            }
+
+            @Override
+            public CompletableFuture<Void> close(final String id, final Map<String, String> meta) {
+                return CompletableFuture.runAsync(() -> execute.close(id, meta), EXECUTOR);
+            }
+        };
+    }
+
+    private final ArangoCursorAsyncExecute execute;
+    private final int batches;
+    private final String id;
+    // accessed by the thread consuming the cursor only
+    private final Deque<CompletableFuture<CursorEntity>> prefetched;
+    private CompletableFuture<CursorEntity> last;
+    // latest batch received from the server
+    private volatile CursorEntity fetched;
+    private volatile boolean closed;
+
+    /**
+     * @param execute execution fetching the batches
+     * @param batches maximum number of batches to fetch ahead
+     * @param first   first batch of the cursor
+     */
+    public PrefetchingCursorExecute(final ArangoCursorAsyncExecute execute, final int batches,
+                                    final CursorEntity first) {
+        super();
+        if (batches < 1) {
+            throw new IllegalArgumentException("batches must be greater than 0");
+        }
+        this.execute = execute;
+        this.batches = batches;
+        id = first.getId();
+        prefetched = new ArrayDeque<>(batches);
+        fetched = first;
+        last = CompletableFuture.completedFuture(first);
+        fill();
+    }
+
+    private void fill() {
+        while (prefetched.size() < batches) {
+            last = last.thenCompose(this::fetch);
+            prefetched.add(last);
+        }
+    }
+
+    private CompletableFuture<CursorEntity> fetch(final CursorEntity previous) {
+        if (closed || previous == null || !Boolean.TRUE.equals(previous.getHasMore())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return execute.next(id, previous.getMeta()).thenApply(result -> {
+            fetched = result;
+            return result;
+        });
+    }
+
+    private CompletableFuture<CursorEntity> nextAsync() {
+        final CompletableFuture<CursorEntity> batch = prefetched.poll();
+        fill();
+        return batch.thenApply(result -> {
+            if (result == null) {
+                throw new ArangoDBException("Cursor " + id + " has no more batches");
+            }
+            return result;
+        });
+    }
+
+    private CompletableFuture<Void> closeAsync() {
+        closed = true;
+        prefetched.clear();
+        // wait for the batch being fetched, the server does not allow to delete a cursor in use
+        return last.handle((result, e) -> fetched).thenCompose(latest -> Boolean.TRUE.equals(latest.getHasMore())
+                ? execute.close(id, latest.getMeta())
+                : CompletableFuture.completedFuture(null));
+    }
+
+    @Override
+    public CursorEntity next(final String id, final Map<String, String> meta) throws ArangoDBException {
+        return join(nextAsync());
+    }
+
+    @Override
+    public void close(final String id, final Map<String, String> meta) throws ArangoDBException {
+        join(closeAsync());
+    }
+
+    /**
+     * @return non-blocking view of this execution
+     */
+    public ArangoCursorAsyncExecute asAsync() {
+        return new ArangoCursorAsyncExecute() {
+            @Override
+            public CompletableFuture<CursorEntity> next(final String id, final Map<String, String> meta) {
+                return nextAsync();
+            }
+
+            @Override
+            public CompletableFuture<Void> close(final String id, final Map<String, String> meta) {
+                return closeAsync();
+            }
+        };
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ArangoDBException) {
+                throw (ArangoDBException) cause;
+            }
+            throw new ArangoDBException(cause);
+        }
+    }
+
+}
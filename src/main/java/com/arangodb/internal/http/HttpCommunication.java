@@ -72,23 +72,23 @@ public class HttpCommunication implements Closeable {
     }
 
     public Response execute(final Request request, final HostHandle hostHandle) throws ArangoDBException, IOException {
-        final AccessType accessType = RequestUtils.determineAccessType(request);
-        Host host = hostHandler.get(hostHandle, accessType);
+        final HostSelection selection = new HostSelection(hostHandle, RequestUtils.determineAccessType(request));
+        Host host = hostHandler.get(selection);
         try {
             while (true) {
                 try {
                     final HttpConnection connection = (HttpConnection) host.connection();
                     final Response response = connection.execute(request);
-                    hostHandler.success();
+                    hostHandler.success(selection);
                     hostHandler.confirm();
                     return response;
                 } catch (final SocketException se) {
-                    hostHandler.fail();
+                    hostHandler.fail(selection);
                     if (hostHandle != null && hostHandle.getHost() != null) {
                         hostHandle.setHost(null);
                     }
                     final Host failedHost = host;
-                    host = hostHandler.get(hostHandle, accessType);
+                    host = hostHandler.get(selection);
                     if (host != null) {
                         LOGGER.warn(String.format("Could not connect to %s", failedHost.getDescription()), se);
                         LOGGER.warn(String.format("Could not connect to %s. Try connecting to %s",
@@ -102,8 +102,8 @@ public class HttpCommunication implements Closeable {
             if (e instanceof ArangoDBRedirectException) {
                 final String location = ((ArangoDBRedirectException) e).getLocation();
                 final HostDescription redirectHost = HostUtils.createFromLocation(location);
-                hostHandler.closeCurrentOnError();
-                hostHandler.fail();
+                selection.getHost().closeOnError();
+                hostHandler.fail(selection);
                 return execute(request, new HostHandle().setHost(redirectHost));
             } else {
                 throw e;
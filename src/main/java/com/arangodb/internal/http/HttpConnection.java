@@ -22,12 +22,16 @@ package com.arangodb.internal.http;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.Protocol;
+import com.arangodb.entity.ConnectionPoolStats;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.LatencyEwma;
 import com.arangodb.internal.util.IOUtils;
 import com.arangodb.internal.util.ResponseUtils;
+import com.arangodb.internal.util.TimerWheel;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.util.ArangoSerializer.Options;
+import com.arangodb.velocypack.VPackParser;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.Response;
@@ -54,6 +58,7 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeaderElementIterator;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HTTP;
 import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
@@ -62,14 +67,18 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Connection to a host over a pool of sockets, sending each request over a free socket.
+ *
  * @author Mark Vollmary
  */
 public class HttpConnection implements Connection {
@@ -78,6 +87,8 @@ public class HttpConnection implements Connection {
     private static final ContentType CONTENT_TYPE_APPLICATION_JSON_UTF8 = ContentType.create("application/json",
             "utf-8");
     private static final ContentType CONTENT_TYPE_VPACK = ContentType.create("application/x-velocypack");
+    // VPackSlice.toString() would build a new parser for every request body
+    private static final VPackParser JSON_PARSER = new VPackParser.Builder().build();
 
     public static class Builder {
         private String user;
@@ -92,6 +103,7 @@ public class HttpConnection implements Connection {
         private HostnameVerifier hostnameVerifier;
         private Integer timeout;
         private HttpRequestRetryHandler httpRequestRetryHandler;
+        private Integer maxConnections;
 
         public Builder user(final String user) {
             this.user = user;
@@ -153,9 +165,18 @@ public class HttpConnection implements Connection {
             return this;
         }
 
+        /**
+         * @param maxConnections maximum number of sockets opened to the host, {@code 1} by default
+         */
+        public Builder maxConnections(final Integer maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
         public HttpConnection build() {
             return new HttpConnection(host, timeout, user, password, useSsl, sslContext, hostnameVerifier, util,
-                    contentType, ttl, httpCookieSpec, httpRequestRetryHandler);
+                    contentType, ttl, httpCookieSpec, httpRequestRetryHandler,
+                    maxConnections != null ? Math.max(1, maxConnections) : 1);
         }
     }
 
@@ -167,10 +188,14 @@ public class HttpConnection implements Connection {
     private final Boolean useSsl;
     private final Protocol contentType;
     private final HostDescription host;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private volatile boolean closed;
+    private final LatencyEwma latency = new LatencyEwma();
 
     private HttpConnection(final HostDescription host, final Integer timeout, final String user, final String password,
                            final Boolean useSsl, final SSLContext sslContext, final HostnameVerifier hostnameVerifier, final ArangoSerialization util, final Protocol contentType,
-                           final Long ttl, final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler) {
+                           final Long ttl, final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler,
+                           final int maxConnections) {
         super();
         this.host = host;
         this.user = user;
@@ -189,8 +214,8 @@ public class HttpConnection implements Connection {
             registryBuilder.register("http", new PlainConnectionSocketFactory());
         }
         cm = new PoolingHttpClientConnectionManager(registryBuilder.build());
-        cm.setDefaultMaxPerRoute(1);
-        cm.setMaxTotal(1);
+        cm.setDefaultMaxPerRoute(maxConnections);
+        cm.setMaxTotal(maxConnections);
         final RequestConfig.Builder requestConfig = RequestConfig.custom();
         if (timeout != null && timeout >= 0) {
             requestConfig.setConnectTimeout(timeout);
@@ -230,10 +255,33 @@ public class HttpConnection implements Connection {
 
     @Override
     public void close() throws IOException {
+        closed = true;
         cm.shutdown();
         client.close();
     }
 
+    @Override
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    @Override
+    public ConnectionPoolStats getStats() {
+        final PoolStats stats = cm.getTotalStats();
+        return new ConnectionPoolStats(host.getHost() + ":" + host.getPort(), stats.getLeased(),
+                stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public double getLatency() {
+        return latency.get();
+    }
+
     private static String buildUrl(final String baseUrl, final Request request) {
         final StringBuilder sb = new StringBuilder().append(baseUrl);
         final String database = request.getDatabase();
@@ -280,14 +328,19 @@ public class HttpConnection implements Connection {
     }
 
     private HttpRequestBase requestWithBody(final HttpEntityEnclosingRequestBase httpRequest, final Request request) {
+        if (contentType != Protocol.HTTP_VPACK && request.getArrayBody() != null) {
+            httpRequest.setEntity(new JsonArrayEntity(request.getArrayBody(), CONTENT_TYPE_APPLICATION_JSON_UTF8));
+            return httpRequest;
+        }
         final VPackSlice body = request.getBody();
         if (body != null) {
             if (contentType == Protocol.HTTP_VPACK) {
-                httpRequest.setEntity(new ByteArrayEntity(
-                        Arrays.copyOfRange(body.getBuffer(), body.getStart(), body.getStart() + body.getByteSize()),
+                // written straight from the range of the slice, without copying it
+                httpRequest.setEntity(new ByteArrayEntity(body.getBuffer(), body.getStart(), body.getByteSize(),
                         CONTENT_TYPE_VPACK));
             } else {
-                httpRequest.setEntity(new StringEntity(body.toString(), CONTENT_TYPE_APPLICATION_JSON_UTF8));
+                httpRequest.setEntity(new StringEntity(JSON_PARSER.toJson(body, true),
+                        CONTENT_TYPE_APPLICATION_JSON_UTF8));
             }
         }
         return httpRequest;
@@ -319,8 +372,28 @@ public class HttpConnection implements Connection {
         if (LOGGER.isDebugEnabled()) {
             CURLLogger.log(url, request, credentials, util);
         }
+        final Integer requestTimeout = request.getTimeout();
+        final TimerWheel.Timeout expiration = requestTimeout != null && requestTimeout > 0
+                ? TimerWheel.getDefault().schedule(httpRequest::abort, requestTimeout, TimeUnit.MILLISECONDS)
+                : null;
         Response response;
-        response = buildResponse(client.execute(httpRequest));
+        inFlightRequests.incrementAndGet();
+        final long start = System.nanoTime();
+        try {
+            response = buildResponse(client.execute(httpRequest));
+        } catch (final IOException e) {
+            if (expiration != null && expiration.isExpired()) {
+                throw new ArangoDBException(new TimeoutException(
+                        String.format("Request %s timed out after %s ms.", url, requestTimeout)));
+            }
+            throw e;
+        } finally {
+            latency.update(System.nanoTime() - start);
+            inFlightRequests.decrementAndGet();
+            if (expiration != null) {
+                expiration.cancel();
+            }
+        }
         checkError(response);
         return response;
     }
@@ -351,12 +424,14 @@ public class HttpConnection implements Connection {
         final HttpEntity entity = httpResponse.getEntity();
         if (entity != null && entity.getContent() != null) {
             if (contentType == Protocol.HTTP_VPACK) {
-                final byte[] content = IOUtils.toByteArray(entity.getContent());
+                final byte[] content = IOUtils.toByteArray(entity.getContent(), entity.getContentLength());
                 if (content.length > 0) {
                     response.setBody(new VPackSlice(content));
                 }
             } else {
-                final String content = IOUtils.toString(entity.getContent());
+                // decoded at once from an array sized from Content-Length, without growing a char buffer
+                final String content = new String(
+                        IOUtils.toByteArray(entity.getContent(), entity.getContentLength()), StandardCharsets.UTF_8);
                 if (!content.isEmpty()) {
                     response.setBody(
                             util.serialize(content, new Options().stringAsJson(true).serializeNullValues(true)));
@@ -40,11 +40,13 @@ public class HttpConnectionFactory implements ConnectionFactory {
     public HttpConnectionFactory(final Integer timeout, final String user, final String password, final Boolean useSsl,
                                  final SSLContext sslContext, final HostnameVerifier hostnameVerifier,
                                  final ArangoSerialization util, final Protocol protocol, final Long connectionTtl,
-                                 final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler) {
+                                 final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler,
+                                 final Integer maxConnections) {
         super();
         builder = new HttpConnection.Builder().timeout(timeout).user(user).password(password).useSsl(useSsl)
                 .sslContext(sslContext).hostnameVerifier(hostnameVerifier).serializationUtil(util).contentType(protocol)
-                .ttl(connectionTtl).httpCookieSpec(httpCookieSpec).httpRequestRetryHandler(httpRequestRetryHandler);
+                .ttl(connectionTtl).httpCookieSpec(httpCookieSpec).httpRequestRetryHandler(httpRequestRetryHandler)
+                .maxConnections(maxConnections);
 
     }
 
@@ -53,4 +55,12 @@ public class HttpConnectionFactory implements ConnectionFactory {
         return builder.host(host).build();
     }
 
+    /**
+     * @return {@code 1}, the connection to a host owning a pool of {@code maxConnections} sockets
+     */
+    @Override
+    public int connectionsPerHost(final int maxConnections) {
+        return 1;
+    }
+
 }
@@ -0,0 +1,88 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Entity writing the elements of an array body as JSON one at a time, with chunked transfer encoding, so that the
+ * whole body is neither serialized nor held in memory at once.
+ */
+public class JsonArrayEntity extends AbstractHttpEntity {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final VPackParser PARSER = new VPackParser.Builder().build();
+
+    private final Iterable<VPackSlice> values;
+
+    public JsonArrayEntity(final Iterable<VPackSlice> values, final ContentType contentType) {
+        super();
+        this.values = values;
+        setContentType(contentType.toString());
+        setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTo(out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public void writeTo(final OutputStream outStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outStream, StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+        writer.write('[');
+        boolean first = true;
+        for (final VPackSlice value : values) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write(PARSER.toJson(value, true));
+        }
+        writer.write(']');
+        writer.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+}
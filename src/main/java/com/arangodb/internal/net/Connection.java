@@ -20,6 +20,8 @@
 
 package com.arangodb.internal.net;
 
+import com.arangodb.entity.ConnectionPoolStats;
+
 import java.io.Closeable;
 
 /**
@@ -27,4 +29,25 @@ import java.io.Closeable;
  */
 public interface Connection extends Closeable {
 
+    /**
+     * @return number of requests sent over this connection and still waiting for their response
+     */
+    int getInFlightRequests();
+
+    /**
+     * @return whether the connection is open, a closed connection is reopened on its next use
+     */
+    boolean isOpen();
+
+    /**
+     * @return moving average of the response times of this connection in nanoseconds, {@code 0} if unknown
+     */
+    double getLatency();
+
+    /**
+     * @return statistics of the sockets of this connection: the ones sending a request, the idle ones and the requests
+     * waiting for a socket
+     */
+    ConnectionPoolStats getStats();
+
 }
@@ -27,4 +27,13 @@ public interface ConnectionFactory {
 
     Connection create(final HostDescription host);
 
+    /**
+     * @param maxConnections maximum number of connections to a host
+     * @return number of connections to create for a host. Factories of connections sending concurrent requests over
+     * sockets of their own create a single connection per host.
+     */
+    default int connectionsPerHost(final int maxConnections) {
+        return maxConnections;
+    }
+
 }
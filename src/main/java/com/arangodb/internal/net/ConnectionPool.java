@@ -20,6 +20,8 @@
 
 package com.arangodb.internal.net;
 
+import com.arangodb.entity.ConnectionPoolStats;
+
 import java.io.Closeable;
 
 /**
@@ -31,4 +33,19 @@ public interface ConnectionPool extends Closeable {
 
     Connection connection();
 
+    /**
+     * @return number of requests waiting for their response on all the connections of the pool
+     */
+    int getInFlightRequests();
+
+    /**
+     * @return average response time of the connections of the pool in nanoseconds, {@code 0} if unknown
+     */
+    double getLatency();
+
+    /**
+     * @return statistics of the connections of the pool
+     */
+    ConnectionPoolStats getStats();
+
 }
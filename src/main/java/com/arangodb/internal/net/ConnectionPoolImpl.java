@@ -20,16 +20,24 @@
 
 package com.arangodb.internal.net;
 
+import com.arangodb.entity.ConnectionPoolStats;
+import com.arangodb.entity.ConnectionSelectionStrategy;
+import com.arangodb.internal.ArangoDefaults;
 import com.arangodb.internal.velocystream.internal.VstConnection;
 import com.arangodb.internal.velocystream.internal.VstConnectionSync;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * Pool of the connections to a host. Connections are created lazily, up to {@code maxConnections}, afterwards every
+ * request is assigned to one of them by the configured {@link ConnectionSelectionStrategy}. The connections are kept in
+ * a copy-on-write array, therefore selecting a connection does not require locking. HTTP hosts get a single connection
+ * owning a pool of {@code maxConnections} sockets, so that every request is sent over any free socket.
+ *
  * @author Mark Vollmary
  */
 public class ConnectionPoolImpl implements ConnectionPool {
@@ -38,18 +46,25 @@ public class ConnectionPoolImpl implements ConnectionPool {
 
     private final HostDescription host;
     private final int maxConnections;
-    private final List<Connection> connections;
-    private int current;
+    // number of connections to create, less than maxConnections if every connection owns several sockets
+    private final int size;
+    private volatile Connection[] connections;
     private final ConnectionFactory factory;
+    private final ConnectionSelectionStrategy selectionStrategy;
+    private final ConnectionSelector selector;
+    private final ReentrantLock lock = new ReentrantLock();
 
     public ConnectionPoolImpl(final HostDescription host, final Integer maxConnections,
-                              final ConnectionFactory factory) {
+                              final ConnectionFactory factory, final ConnectionSelectionStrategy selectionStrategy) {
         super();
         this.host = host;
         this.maxConnections = maxConnections;
+        size = factory.connectionsPerHost(maxConnections);
         this.factory = factory;
-        connections = new ArrayList<>();
-        current = 0;
+        this.selectionStrategy = selectionStrategy != null ? selectionStrategy
+                : ArangoDefaults.DEFAULT_CONNECTION_SELECTION_STRATEGY;
+        selector = ConnectionSelector.of(this.selectionStrategy);
+        connections = new Connection[0];
     }
 
     @Override
@@ -58,17 +73,28 @@ public class ConnectionPoolImpl implements ConnectionPool {
     }
 
     @Override
-    public synchronized Connection connection() {
-
-        final Connection connection;
+    public Connection connection() {
+
+        Connection[] current = connections;
+        Connection connection = null;
+
+        if (current.length < size) {
+            lock.lock();
+            try {
+                current = connections;
+                if (current.length < size) {
+                    connection = createConnection(host);
+                    final Connection[] grown = Arrays.copyOf(current, current.length + 1);
+                    grown[current.length] = connection;
+                    connections = grown;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
 
-        if (connections.size() < maxConnections) {
-            connection = createConnection(host);
-            connections.add(connection);
-            current++;
-        } else {
-            final int index = Math.floorMod(current++, connections.size());
-            connection = connections.get(index);
+        if (connection == null) {
+            connection = selector.select(current);
         }
 
         if (connection instanceof VstConnectionSync) {
@@ -79,17 +105,62 @@ public class ConnectionPoolImpl implements ConnectionPool {
     }
 
     @Override
-    public synchronized void close() throws IOException {
+    public int getInFlightRequests() {
+        int inFlightRequests = 0;
         for (final Connection connection : connections) {
-            connection.close();
+            inFlightRequests += connection.getInFlightRequests();
+        }
+        return inFlightRequests;
+    }
+
+    @Override
+    public double getLatency() {
+        double latency = 0;
+        int measured = 0;
+        for (final Connection connection : connections) {
+            final double connectionLatency = connection.getLatency();
+            if (connectionLatency > 0) {
+                latency += connectionLatency;
+                measured++;
+            }
+        }
+        return measured > 0 ? latency / measured : 0;
+    }
+
+    @Override
+    public ConnectionPoolStats getStats() {
+        int leased = 0;
+        int available = 0;
+        int pending = 0;
+        for (final Connection connection : connections) {
+            final ConnectionPoolStats stats = connection.getStats();
+            leased += stats.getLeased();
+            available += stats.getAvailable();
+            pending += stats.getPending();
+        }
+        return new ConnectionPoolStats(host.getHost() + ":" + host.getPort(), leased, available, pending,
+                maxConnections);
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            final Connection[] current = connections;
+            connections = new Connection[0];
+            for (final Connection connection : current) {
+                connection.close();
+            }
+        } finally {
+            lock.unlock();
         }
-        connections.clear();
     }
 
     @Override
     public String toString() {
         return "ConnectionPoolImpl [host=" + host + ", maxConnections=" + maxConnections + ", connections="
-                + connections.size() + ", current=" + current + ", factory=" + factory.getClass().getSimpleName() + "]";
+                + connections.length + ", selectionStrategy=" + selectionStrategy + ", factory="
+                + factory.getClass().getSimpleName() + "]";
     }
 
 }
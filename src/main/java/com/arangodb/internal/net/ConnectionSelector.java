@@ -0,0 +1,57 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import com.arangodb.entity.ConnectionSelectionStrategy;
+
+/**
+ * Chooses the connection of a {@link ConnectionPool} to which a request is sent. Implementations are called
+ * concurrently and must not block.
+ */
+public interface ConnectionSelector {
+
+    /**
+     * @param connections non-empty array of the connections of the pool, must not be modified
+     * @return the selected connection
+     */
+    Connection select(Connection[] connections);
+
+    static ConnectionSelector of(final ConnectionSelectionStrategy strategy) {
+        switch (strategy) {
+            case ROUND_ROBIN:
+                return new RoundRobinConnectionSelector();
+            case POWER_OF_TWO_CHOICES:
+                return new PowerOfTwoChoicesConnectionSelector();
+            case LEAST_IN_FLIGHT:
+            default:
+                return new LeastInFlightConnectionSelector();
+        }
+    }
+
+    /**
+     * @return load of the connection, counting the requests in flight and penalizing closed connections, which have
+     * to be reopened before use
+     */
+    static int load(final Connection connection) {
+        return (connection.getInFlightRequests() << 1) + (connection.isOpen() ? 0 : 1);
+    }
+
+}
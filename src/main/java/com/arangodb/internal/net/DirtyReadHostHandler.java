@@ -29,7 +29,6 @@ public class DirtyReadHostHandler implements HostHandler {
 
     private final HostHandler master;
     private final HostHandler follower;
-    private AccessType currentAccessType;
 
     public DirtyReadHostHandler(final HostHandler master, final HostHandler follower) {
         super();
@@ -37,37 +36,32 @@ public class DirtyReadHostHandler implements HostHandler {
         this.follower = follower;
     }
 
-    private HostHandler determineHostHandler() {
-        if (currentAccessType == AccessType.DIRTY_READ) {
+    private HostHandler determineHostHandler(final HostSelection selection) {
+        if (selection.getAccessType() == AccessType.DIRTY_READ) {
             return follower;
         }
         return master;
     }
 
     @Override
-    public Host get(final HostHandle hostHandle, final AccessType accessType) {
-        this.currentAccessType = accessType;
-        return determineHostHandler().get(hostHandle, accessType);
+    public Host get(final HostSelection selection) {
+        return determineHostHandler(selection).get(selection);
     }
 
     @Override
-    public void success() {
-        determineHostHandler().success();
+    public void success(final HostSelection selection) {
+        determineHostHandler(selection).success(selection);
     }
 
     @Override
-    public void fail() {
-        determineHostHandler().fail();
-    }
-
-    @Override
-    public void reset() {
-        determineHostHandler().reset();
+    public void fail(final HostSelection selection) {
+        determineHostHandler(selection).fail(selection);
     }
 
     @Override
     public void confirm() {
-        determineHostHandler().confirm();
+        master.confirm();
+        follower.confirm();
     }
 
     @Override
@@ -76,9 +70,4 @@ public class DirtyReadHostHandler implements HostHandler {
         follower.close();
     }
 
-    @Override
-    public void closeCurrentOnError() {
-        determineHostHandler().closeCurrentOnError();
-    }
-
 }
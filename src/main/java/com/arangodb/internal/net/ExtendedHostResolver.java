@@ -21,6 +21,7 @@
 package com.arangodb.internal.net;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.internal.ArangoExecutorSync;
 import com.arangodb.internal.ArangoRequestParam;
 import com.arangodb.internal.util.HostUtils;
@@ -31,91 +32,198 @@ import com.arangodb.velocystream.RequestType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Host resolver acquiring the endpoints of the cluster from the server. The endpoints are acquired by a background
+ * thread, every {@code acquireHostListInterval} milliseconds (&plusmn;10% to spread the refreshes of many clients) and
+ * as soon as a request fails to reach a host. Every refresh publishes a new {@link HostSet}, which is never modified
+ * afterwards, so {@link #resolve(boolean, boolean)} only reads the current snapshot and never waits for the server.
+ *
  * @author Mark Vollmary
  */
 public class ExtendedHostResolver implements HostResolver {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExtendedHostResolver.class);
 
-    private final HostSet hosts;
+    private static final double JITTER = 0.1;
+    // minimum time between two refreshes triggered by failures
+    private static final long MIN_REFRESH_INTERVAL = 1000;
+
+    private volatile HostSet hosts;
 
     private final Integer maxConnections;
     private final ConnectionFactory connectionFactory;
+    private final ConnectionSelectionStrategy connectionSelectionStrategy;
 
-    private long lastUpdate;
+    private volatile long lastUpdate;
     private final Integer acquireHostListInterval;
+    private final AtomicBoolean refreshing;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> nextRefresh;
 
     private ArangoExecutorSync executor;
     private ArangoSerialization arangoSerialization;
 
 
     public ExtendedHostResolver(final List<Host> hosts, final Integer maxConnections,
-                                final ConnectionFactory connectionFactory, Integer acquireHostListInterval) {
+                                final ConnectionFactory connectionFactory, Integer acquireHostListInterval,
+                                final ConnectionSelectionStrategy connectionSelectionStrategy) {
 
         this.acquireHostListInterval = acquireHostListInterval;
         this.hosts = new HostSet(hosts);
         this.maxConnections = maxConnections;
         this.connectionFactory = connectionFactory;
+        this.connectionSelectionStrategy = connectionSelectionStrategy;
 
         lastUpdate = 0;
+        refreshing = new AtomicBoolean();
     }
 
     @Override
     public void init(ArangoExecutorSync executor, ArangoSerialization arangoSerialization) {
         this.executor = executor;
         this.arangoSerialization = arangoSerialization;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread t = new Thread(r, "arangodb-host-resolver");
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     @Override
-
     public HostSet resolve(boolean initial, boolean closeConnections) {
-
         if (!initial && isExpired()) {
+            // first use, or the scheduled refresh is late
+            startRefresh();
+        }
+        return hosts;
+    }
 
-            lastUpdate = System.currentTimeMillis();
+    @Override
+    public void refresh() {
+        if (System.currentTimeMillis() - lastUpdate > MIN_REFRESH_INTERVAL) {
+            startRefresh();
+        }
+    }
 
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void startRefresh() {
+        if (scheduler == null || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(this::acquireHostList);
+        } catch (final RejectedExecutionException e) {
+            // closed
+            refreshing.set(false);
+        }
+    }
+
+    // runs on the scheduler thread only
+    private void acquireHostList() {
+        try {
             final Collection<String> endpoints = resolveFromServer();
             LOGGER.debug("Resolve " + endpoints.size() + " Endpoints");
             LOGGER.debug("Endpoints " + Arrays.deepToString(endpoints.toArray()));
-
             if (!endpoints.isEmpty()) {
-                hosts.markAllForDeletion();
+                update(endpoints);
             }
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Could not acquire the host list", e);
+        } finally {
+            lastUpdate = System.currentTimeMillis();
+            refreshing.set(false);
+            if (nextRefresh != null) {
+                nextRefresh.cancel(false);
+            }
+            try {
+                nextRefresh = scheduler.schedule(this::startRefresh, nextInterval(), TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException e) {
+                // closed
+            }
+        }
+    }
 
-            for (final String endpoint : endpoints) {
-                LOGGER.debug("Create HOST from " + endpoint);
+    private void update(final Collection<String> endpoints) {
+        final HostSet current = hosts;
+        final List<Host> updated = new ArrayList<>();
 
-                if (endpoint.matches(".*://.+:[0-9]+")) {
+        for (final String endpoint : endpoints) {
+            LOGGER.debug("Create HOST from " + endpoint);
 
-                    final String[] s = endpoint.replaceAll(".*://", "").split(":");
-                    if (s.length == 2) {
-                        final HostDescription description = new HostDescription(s[0], Integer.parseInt(s[1]));
-                        hosts.addHost(HostUtils.createHost(description, maxConnections, connectionFactory));
-                    } else if (s.length == 4) {
-                        // IPV6 Address - TODO: we need a proper function to resolve AND support IPV4 & IPV6 functions
-                        // globally
-                        final HostDescription description = new HostDescription("127.0.0.1", Integer.parseInt(s[3]));
-                        hosts.addHost(HostUtils.createHost(description, maxConnections, connectionFactory));
-                    } else {
-                        LOGGER.warn("Skip Endpoint (Missing Port)" + endpoint);
-                    }
+            if (endpoint.matches(".*://.+:[0-9]+")) {
 
+                final String[] s = endpoint.replaceAll(".*://", "").split(":");
+                final HostDescription description;
+                if (s.length == 2) {
+                    description = new HostDescription(s[0], Integer.parseInt(s[1]));
+                } else if (s.length == 4) {
+                    // IPV6 Address - TODO: we need a proper function to resolve AND support IPV4 & IPV6 functions
+                    // globally
+                    description = new HostDescription("127.0.0.1", Integer.parseInt(s[3]));
                 } else {
-                    LOGGER.warn("Skip Endpoint (Format)" + endpoint);
+                    LOGGER.warn("Skip Endpoint (Missing Port)" + endpoint);
+                    continue;
+                }
+                if (!contains(updated, description)) {
+                    final Host existing = find(current.getHostsList(), description);
+                    updated.add(existing != null ? existing : HostUtils.createHost(description, maxConnections,
+                            connectionFactory, connectionSelectionStrategy));
                 }
+
+            } else {
+                LOGGER.warn("Skip Endpoint (Format)" + endpoint);
             }
-            hosts.clearAllMarkedForDeletion();
         }
 
-        return hosts;
+        if (updated.isEmpty()) {
+            return;
+        }
+        hosts = new HostSet(updated);
+
+        for (final Host host : current.getHostsList()) {
+            if (!updated.contains(host)) {
+                try {
+                    LOGGER.debug("Try to close Host " + host);
+                    host.close();
+                } catch (final IOException e) {
+                    LOGGER.warn("Error during closing the Host " + host, e);
+                }
+            }
+        }
+    }
+
+    private static Host find(final List<Host> hosts, final HostDescription description) {
+        for (final Host host : hosts) {
+            if (description.equals(host.getDescription())) {
+                return host;
+            }
+        }
+        return null;
+    }
+
+    private static boolean contains(final List<Host> hosts, final HostDescription description) {
+        return find(hosts, description) != null;
     }
 
     private Collection<String> resolveFromServer() throws ArangoDBException {
@@ -159,4 +267,9 @@ public class ExtendedHostResolver implements HostResolver {
         return System.currentTimeMillis() > (lastUpdate + acquireHostListInterval);
     }
 
+    private long nextInterval() {
+        final double jitter = 1 + JITTER * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return (long) (acquireHostListInterval * jitter);
+    }
+
 }
@@ -23,66 +23,58 @@ package com.arangodb.internal.net;
 import com.arangodb.ArangoDBException;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author Mark Vollmary
  */
 public class FallbackHostHandler implements HostHandler {
 
+    private static final int MAX_ITERATIONS = 3;
+
     private final HostResolver resolver;
-    private Host current;
-    private Host lastSuccess;
-    private int iterations;
-    private boolean firstOpened;
-    private HostSet hosts;
+    private final AtomicReference<Host> current;
+    private final AtomicBoolean firstOpened;
+    private volatile HostSet hosts;
 
     public FallbackHostHandler(final HostResolver resolver) {
         this.resolver = resolver;
-        iterations = 0;
         hosts = resolver.resolve(true, false);
-        current = lastSuccess = hosts.getHostsList().get(0);
-        firstOpened = true;
+        current = new AtomicReference<>(hosts.getHostsList().get(0));
+        firstOpened = new AtomicBoolean(true);
     }
 
     @Override
-    public Host get(final HostHandle hostHandle, AccessType accessType) {
-        if (current != lastSuccess || iterations < 3) {
-            return current;
+    public Host get(final HostSelection selection) {
+        if (selection.getFailures() < MAX_ITERATIONS * hosts.getHostsList().size()) {
+            return selection.select(current.get());
         } else {
-            reset();
             throw new ArangoDBException("Cannot contact any host!");
         }
     }
 
     @Override
-    public void success() {
-        lastSuccess = current;
-        iterations = 0;
+    public void success(final HostSelection selection) {
     }
 
     @Override
-    public void fail() {
+    public void fail(final HostSelection selection) {
+        selection.failed();
+        resolver.refresh();
         hosts = resolver.resolve(false, false);
         final List<Host> hostList = hosts.getHostsList();
-        final int index = hostList.indexOf(current) + 1;
-        final boolean inBound = index < hostList.size();
-        current = hostList.get(inBound ? index : 0);
-        if (!inBound) {
-            iterations++;
-        }
-    }
-
-    @Override
-    public void reset() {
-        iterations = 0;
+        final Host failed = selection.getHost();
+        final int index = hostList.indexOf(failed) + 1;
+        // move on only once, if concurrent requests fail on the same host
+        current.compareAndSet(failed, hostList.get(index < hostList.size() ? index : 0));
     }
 
     @Override
     public void confirm() {
-        if (firstOpened) {
+        if (firstOpened.compareAndSet(true, false)) {
             // after first successful established connection, update host list
             hosts = resolver.resolve(false, false);
-            firstOpened = false;
         }
     }
 
@@ -91,9 +83,4 @@ public class FallbackHostHandler implements HostHandler {
         hosts.close();
     }
 
-    @Override
-    public void closeCurrentOnError() {
-        current.closeOnError();
-    }
-
 }
@@ -20,6 +20,8 @@
 
 package com.arangodb.internal.net;
 
+import com.arangodb.entity.ConnectionPoolStats;
+
 import java.io.IOException;
 
 /**
@@ -31,6 +33,21 @@ public interface Host {
 
     Connection connection();
 
+    /**
+     * @return number of requests sent to the host and still waiting for their response
+     */
+    int getInFlightRequests();
+
+    /**
+     * @return moving average of the response times of the host in nanoseconds, {@code 0} if unknown
+     */
+    double getLatency();
+
+    /**
+     * @return statistics of the connections to the host
+     */
+    ConnectionPoolStats getConnectionPoolStats();
+
     void closeOnError();
 
     void close() throws IOException;
@@ -23,21 +23,26 @@ package com.arangodb.internal.net;
 import java.io.IOException;
 
 /**
+ * Chooses the hosts to send the requests to. A host handler is shared by all the threads executing requests, the state
+ * of every single request is kept in its own {@link HostSelection}.
+ *
  * @author Mark Vollmary
  */
 public interface HostHandler {
 
-    Host get(HostHandle hostHandle, AccessType accessType);
-
-    void success();
+    /**
+     * Chooses the host for the next attempt of the request and sets it as current host of the selection.
+     *
+     * @throws com.arangodb.ArangoDBException if the request has failed on too many hosts
+     */
+    Host get(HostSelection selection);
 
-    void fail();
+    void success(HostSelection selection);
 
-    void reset();
+    void fail(HostSelection selection);
 
     void confirm();
 
     void close() throws IOException;
 
-    void closeCurrentOnError();
 }
@@ -21,6 +21,7 @@
 package com.arangodb.internal.net;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ConnectionPoolStats;
 
 import java.io.IOException;
 
@@ -54,6 +55,21 @@ public class HostImpl implements Host {
         return connectionPool.connection();
     }
 
+    @Override
+    public int getInFlightRequests() {
+        return connectionPool.getInFlightRequests();
+    }
+
+    @Override
+    public double getLatency() {
+        return connectionPool.getLatency();
+    }
+
+    @Override
+    public ConnectionPoolStats getConnectionPoolStats() {
+        return connectionPool.getStats();
+    }
+
     @Override
     public void closeOnError() {
         try {
@@ -32,4 +32,12 @@ public interface HostResolver {
 
     HostSet resolve(boolean initial, boolean closeConnections);
 
+    /**
+     * Requests to update the hosts as soon as possible, e.g. after a host could not be reached. Does not wait for the
+     * update.
+     */
+    void refresh();
+
+    void close();
+
 }
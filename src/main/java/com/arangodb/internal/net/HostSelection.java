@@ -0,0 +1,72 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+/**
+ * Host selection state of a single request, passed to every call of the {@link HostHandler} for that request. It is
+ * confined to the thread executing the request, therefore the host handlers can be shared between threads without
+ * keeping any per-request state themselves.
+ */
+public class HostSelection {
+
+    private final HostHandle hostHandle;
+    private final AccessType accessType;
+    private Host host;
+    private int failures;
+
+    public HostSelection(final HostHandle hostHandle, final AccessType accessType) {
+        super();
+        this.hostHandle = hostHandle;
+        this.accessType = accessType;
+    }
+
+    public HostHandle getHostHandle() {
+        return hostHandle;
+    }
+
+    public AccessType getAccessType() {
+        return accessType;
+    }
+
+    /**
+     * @return host of the current attempt
+     */
+    public Host getHost() {
+        return host;
+    }
+
+    /**
+     * @return number of failed attempts of the request
+     */
+    public int getFailures() {
+        return failures;
+    }
+
+    Host select(final Host host) {
+        this.host = host;
+        return host;
+    }
+
+    void failed() {
+        failures++;
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import com.arangodb.ArangoDBException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Host handler choosing, between two randomly picked hosts, the one with the lower expected cost, computed as the
+ * moving average of its response times multiplied by its number of requests in flight. Hosts failing
+ * {@value #MAX_CONSECUTIVE_FAILURES} consecutive times are ejected from the selection for a time, doubling on each
+ * further ejection, and are re-admitted afterwards.
+ */
+public class LatencyAwareHostHandler implements HostHandler {
+
+    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+    private static final long BASE_EJECTION_TIME = TimeUnit.SECONDS.toNanos(1);
+    private static final int MAX_EJECTION_EXPONENT = 5;
+
+    private static class HostState {
+        private int consecutiveFailures;
+        private int ejections;
+        private long ejectedUntil;
+    }
+
+    private final HostResolver resolver;
+    private final Map<HostDescription, HostState> states;
+    private final long baseEjectionTime;
+    private volatile HostSet hosts;
+
+    public LatencyAwareHostHandler(final HostResolver resolver) {
+        this(resolver, BASE_EJECTION_TIME);
+    }
+
+    /**
+     * @param baseEjectionTime time in nanoseconds for which a failing host is ejected the first time
+     */
+    public LatencyAwareHostHandler(final HostResolver resolver, final long baseEjectionTime) {
+        super();
+        this.resolver = resolver;
+        this.baseEjectionTime = baseEjectionTime;
+        states = new ConcurrentHashMap<>();
+        hosts = resolver.resolve(true, false);
+    }
+
+    @Override
+    public Host get(final HostSelection selection) {
+        hosts = resolver.resolve(false, false);
+        final List<Host> hostsList = hosts.getHostsList();
+        final int size = hostsList.size();
+
+        if (selection.getFailures() > size) {
+            throw new ArangoDBException("Cannot contact any host!");
+        }
+
+        Host host = null;
+        final HostHandle hostHandle = selection.getHostHandle();
+        final HostDescription hostDescription = hostHandle != null ? hostHandle.getHost() : null;
+        if (hostDescription != null) {
+            for (final Host h : hostsList) {
+                if (hostDescription.equals(h.getDescription())) {
+                    host = h;
+                    break;
+                }
+            }
+        }
+        if (host == null) {
+            host = choose(hostsList);
+            if (hostHandle != null && hostDescription == null) {
+                hostHandle.setHost(host.getDescription());
+            }
+        }
+        return selection.select(host);
+    }
+
+    private Host choose(final List<Host> hostsList) {
+        final List<Host> admitted = admitted(hostsList);
+        final int size = admitted.size();
+        if (size == 1) {
+            return admitted.get(0);
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(size);
+        final int second = (first + 1 + random.nextInt(size - 1)) % size;
+        final Host a = admitted.get(first);
+        final Host b = admitted.get(second);
+        return cost(b) < cost(a) ? b : a;
+    }
+
+    private List<Host> admitted(final List<Host> hostsList) {
+        final long now = System.nanoTime();
+        final List<Host> admitted = new ArrayList<>(hostsList.size());
+        for (final Host host : hostsList) {
+            final HostState state = states.get(host.getDescription());
+            if (state == null || !isEjected(state, now)) {
+                admitted.add(host);
+            }
+        }
+        // with all the hosts ejected, let every host be tried again
+        return admitted.isEmpty() ? hostsList : admitted;
+    }
+
+    private static boolean isEjected(final HostState state, final long now) {
+        synchronized (state) {
+            return state.ejectedUntil != 0 && state.ejectedUntil - now > 0;
+        }
+    }
+
+    private static double cost(final Host host) {
+        // hosts without any measured response yet are considered as fast as possible, so that they get probed
+        return host.getLatency() * (host.getInFlightRequests() + 1);
+    }
+
+    private HostState state(final Host host) {
+        return states.computeIfAbsent(host.getDescription(), k -> new HostState());
+    }
+
+    @Override
+    public void success(final HostSelection selection) {
+        final Host host = selection.getHost();
+        if (host != null) {
+            final HostState state = states.get(host.getDescription());
+            if (state != null) {
+                synchronized (state) {
+                    state.consecutiveFailures = 0;
+                    state.ejections = 0;
+                    state.ejectedUntil = 0;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void fail(final HostSelection selection) {
+        selection.failed();
+        resolver.refresh();
+        final Host host = selection.getHost();
+        if (host != null) {
+            final HostState state = state(host);
+            synchronized (state) {
+                if (++state.consecutiveFailures >= MAX_CONSECUTIVE_FAILURES) {
+                    state.ejectedUntil = System.nanoTime()
+                            + (baseEjectionTime << Math.min(state.ejections, MAX_EJECTION_EXPONENT));
+                    state.ejections++;
+                    state.consecutiveFailures = 0;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void confirm() {
+    }
+
+    @Override
+    public void close() {
+        hosts.close();
+    }
+
+}
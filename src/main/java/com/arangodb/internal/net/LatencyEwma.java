@@ -0,0 +1,80 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Peak-sensitive exponentially weighted moving average of response times. A sample higher than the current average
+ * replaces it immediately, lower samples are averaged with a weight depending on the time elapsed since the previous
+ * update. The average also decays while no samples are recorded, so that an endpoint which has been avoided because of
+ * its latency is eventually tried again.
+ */
+public class LatencyEwma {
+
+    private static final long DEFAULT_DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+
+    private final double decayTime;
+    private long lastUpdate;
+    private double value;
+
+    public LatencyEwma() {
+        this(DEFAULT_DECAY_TIME);
+    }
+
+    /**
+     * @param decayTime time constant of the average in nanoseconds
+     */
+    public LatencyEwma(final long decayTime) {
+        super();
+        this.decayTime = decayTime;
+        lastUpdate = System.nanoTime();
+    }
+
+    /**
+     * @param latency response time in nanoseconds
+     */
+    public synchronized void update(final long latency) {
+        final long now = System.nanoTime();
+        final double decayed = decay(now);
+        // weighted by the time elapsed since the previous update
+        final double weight = weight(now);
+        lastUpdate = now;
+        value = latency > decayed ? latency : decayed + (latency - decayed) * weight;
+    }
+
+    /**
+     * @return average response time in nanoseconds, {@code 0} if no response has been recorded
+     */
+    public synchronized double get() {
+        return decay(System.nanoTime());
+    }
+
+    private double decay(final long now) {
+        return value * Math.exp(-(now - lastUpdate) / decayTime);
+    }
+
+    private double weight(final long now) {
+        // weight of a new sample, at least the one of a sample recorded after 1 ms
+        return Math.max(1 - Math.exp(-(now - lastUpdate) / decayTime), 1 - Math.exp(-1e6 / decayTime));
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the connection with the lowest {@link ConnectionSelector#load(Connection)}. The scan starts from a rotating
+ * offset, so that equally loaded connections are used in turn.
+ */
+public class LeastInFlightConnectionSelector implements ConnectionSelector {
+
+    private final AtomicInteger offset = new AtomicInteger();
+
+    @Override
+    public Connection select(final Connection[] connections) {
+        final int n = connections.length;
+        final int start = Math.floorMod(offset.getAndIncrement(), n);
+        Connection selected = connections[start];
+        int minLoad = ConnectionSelector.load(selected);
+        for (int i = 1; i < n && minLoad > 0; i++) {
+            final Connection connection = connections[(start + i) % n];
+            final int load = ConnectionSelector.load(connection);
+            if (load < minLoad) {
+                selected = connection;
+                minLoad = load;
+            }
+        }
+        return selected;
+    }
+
+}
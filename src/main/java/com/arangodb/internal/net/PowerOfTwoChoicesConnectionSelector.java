@@ -0,0 +1,44 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the less loaded of two randomly chosen connections, see {@link ConnectionSelector#load(Connection)}.
+ */
+public class PowerOfTwoChoicesConnectionSelector implements ConnectionSelector {
+
+    @Override
+    public Connection select(final Connection[] connections) {
+        final int n = connections.length;
+        if (n == 1) {
+            return connections[0];
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int i = random.nextInt(n);
+        // second index distinct from the first one
+        final int j = (i + 1 + random.nextInt(n - 1)) % n;
+        return ConnectionSelector.load(connections[j]) < ConnectionSelector.load(connections[i])
+                ? connections[j] : connections[i];
+    }
+
+}
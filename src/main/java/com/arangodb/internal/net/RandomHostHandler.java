@@ -30,8 +30,8 @@ public class RandomHostHandler implements HostHandler {
 
     private final HostResolver resolver;
     private final HostHandler fallback;
-    private Host current;
-    private HostSet hosts;
+    private volatile Host current;
+    private volatile HostSet hosts;
 
     public RandomHostHandler(final HostResolver resolver, final HostHandler fallback) {
         super();
@@ -41,22 +41,27 @@ public class RandomHostHandler implements HostHandler {
     }
 
     @Override
-    public Host get(final HostHandle hostHandle, AccessType accessType) {
-        if (current == null) {
-            current = getRandomHost(false, true);
+    public Host get(final HostSelection selection) {
+        if (selection.getFailures() > 0) {
+            // after a failure keep on with the host chosen by the fallback
+            current = fallback.get(selection);
+            return current;
         }
-        return current;
+        Host host = current;
+        if (host == null) {
+            host = current = getRandomHost(false, true);
+        }
+        return selection.select(host);
     }
 
     @Override
-    public void success() {
-        fallback.success();
+    public void success(final HostSelection selection) {
+        fallback.success(selection);
     }
 
     @Override
-    public void fail() {
-        fallback.fail();
-        current = fallback.get(null, null);
+    public void fail(final HostSelection selection) {
+        fallback.fail(selection);
     }
 
     private Host getRandomHost(final boolean initial, final boolean closeConnections) {
@@ -66,11 +71,6 @@ public class RandomHostHandler implements HostHandler {
         return hostList.get(0);
     }
 
-    @Override
-    public void reset() {
-        fallback.reset();
-    }
-
     @Override
     public void confirm() {
     }
@@ -80,9 +80,4 @@ public class RandomHostHandler implements HostHandler {
         hosts.close();
     }
 
-    @Override
-    public void closeCurrentOnError() {
-        current.closeOnError();
-    }
-
 }
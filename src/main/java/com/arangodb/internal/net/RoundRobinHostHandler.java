@@ -22,42 +22,43 @@ package com.arangodb.internal.net;
 
 import com.arangodb.ArangoDBException;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author Mark Vollmary
  */
 public class RoundRobinHostHandler implements HostHandler {
 
     private final HostResolver resolver;
-    private int current;
-    private int fails;
-    private Host currentHost;
-    private HostSet hosts;
+    private final AtomicInteger current;
+    private volatile HostSet hosts;
 
     public RoundRobinHostHandler(final HostResolver resolver) {
         super();
         this.resolver = resolver;
         hosts = resolver.resolve(true, false);
-        current = 0;
-        fails = 0;
+        current = new AtomicInteger();
     }
 
     @Override
-    public Host get(final HostHandle hostHandle, AccessType accessType) {
+    public Host get(final HostSelection selection) {
         hosts = resolver.resolve(false, false);
-        final int size = hosts.getHostsList().size();
+        final List<Host> hostsList = hosts.getHostsList();
+        final int size = hostsList.size();
 
-        if (fails > size) {
-            reset();
+        if (selection.getFailures() > size) {
             throw new ArangoDBException("Cannot contact any host!");
         }
 
-        final int index = (current++) % size;
-        Host host = hosts.getHostsList().get(index);
+        final int index = (current.getAndIncrement() & Integer.MAX_VALUE) % size;
+        Host host = hostsList.get(index);
+        final HostHandle hostHandle = selection.getHostHandle();
         if (hostHandle != null) {
             final HostDescription hostDescription = hostHandle.getHost();
             if (hostDescription != null) {
                 for (int i = index; i < index + size; i++) {
-                    host = hosts.getHostsList().get(i % size);
+                    host = hostsList.get(i % size);
                     if (hostDescription.equals(host.getDescription())) {
                         break;
                     }
@@ -66,23 +67,17 @@ public class RoundRobinHostHandler implements HostHandler {
                 hostHandle.setHost(host.getDescription());
             }
         }
-        currentHost = host;
-        return host;
-    }
-
-    @Override
-    public void success() {
-        fails = 0;
+        return selection.select(host);
     }
 
     @Override
-    public void fail() {
-        fails++;
+    public void success(final HostSelection selection) {
     }
 
     @Override
-    public void reset() {
-        fails = 0;
+    public void fail(final HostSelection selection) {
+        selection.failed();
+        resolver.refresh();
     }
 
     @Override
@@ -94,9 +89,4 @@ public class RoundRobinHostHandler implements HostHandler {
         hosts.close();
     }
 
-    @Override
-    public void closeCurrentOnError() {
-        currentHost.closeOnError();
-    }
-
 }
@@ -47,4 +47,14 @@ public class SimpleHostResolver implements HostResolver {
         return new HostSet(hosts);
     }
 
+    @Override
+    public void refresh() {
+
+    }
+
+    @Override
+    public void close() {
+
+    }
+
 }
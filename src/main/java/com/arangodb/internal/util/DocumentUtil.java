@@ -32,21 +32,23 @@ public final class DocumentUtil {
     private static final String SLASH = "/";
     public static final String REGEX_KEY = "[^/]+";
     public static final String REGEX_ID = "[^/]+/[^/]+";
+    private static final Pattern PATTERN_KEY = Pattern.compile(REGEX_KEY);
+    private static final Pattern PATTERN_ID = Pattern.compile(REGEX_ID);
 
     private DocumentUtil() {
         super();
     }
 
     public static void validateIndexId(final String id) {
-        validateName("index id", REGEX_ID, id);
+        validateName("index id", PATTERN_ID, id);
     }
 
     public static void validateDocumentKey(final String key) throws ArangoDBException {
-        validateName("document key", REGEX_KEY, key);
+        validateName("document key", PATTERN_KEY, key);
     }
 
     public static void validateDocumentId(final String id) throws ArangoDBException {
-        validateName("document id", REGEX_ID, id);
+        validateName("document id", PATTERN_ID, id);
     }
 
     public static String createDocumentHandle(final String collection, final String key) {
@@ -54,9 +56,9 @@ public final class DocumentUtil {
         return collection + SLASH + key;
     }
 
-    private static void validateName(final String type, final String regex, final CharSequence name)
+    private static void validateName(final String type, final Pattern pattern, final CharSequence name)
             throws ArangoDBException {
-        if (!Pattern.matches(regex, name)) {
+        if (!pattern.matcher(name).matches()) {
             throw new ArangoDBException(String.format("%s %s is not valid.", type, name));
         }
     }
@@ -32,8 +32,26 @@ public final class EncodeUtils {
     }
 
     public static String encodeURL(final String value) throws UnsupportedEncodingException {
+        if (isUnreserved(value)) {
+            return value;
+        }
         return URLEncoder.encode(value, "UTF-8").replaceAll("\\+", "%20").replaceAll("\\%21", "!")
                 .replaceAll("\\%27", "'").replaceAll("\\%28", "(").replaceAll("\\%29", ")").replaceAll("\\%7E", "~");
     }
 
+    /**
+     * @return whether the value is left unchanged by {@link #encodeURL(String)}, as most keys and names are
+     */
+    private static boolean isUnreserved(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '*' || c == '!' || c == '\'' || c == '('
+                    || c == ')' || c == '~')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
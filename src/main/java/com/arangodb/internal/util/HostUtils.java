@@ -20,6 +20,7 @@
 
 package com.arangodb.internal.util;
 
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.internal.net.*;
 
 /**
@@ -45,7 +46,9 @@ public final class HostUtils {
     public static Host createHost(
             final HostDescription description,
             final int maxConnections,
-            final ConnectionFactory factory) {
-        return new HostImpl(new ConnectionPoolImpl(description, maxConnections, factory), description);
+            final ConnectionFactory factory,
+            final ConnectionSelectionStrategy selectionStrategy) {
+        return new HostImpl(new ConnectionPoolImpl(description, maxConnections, factory, selectionStrategy),
+                description);
     }
 }
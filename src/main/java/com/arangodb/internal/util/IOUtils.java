@@ -24,6 +24,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.util.Arrays;
 
 /**
  * @author Mark Vollmary
@@ -31,6 +32,7 @@ import java.io.*;
 public final class IOUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(IOUtils.class);
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 
     private IOUtils() {
     }
@@ -73,4 +75,35 @@ public final class IOUtils {
         return buffer.toByteArray();
     }
 
+    /**
+     * Reads the stream into an array of the expected length, without intermediate copies. Falls back to
+     * {@link #toByteArray(InputStream)} if the length is unknown or the stream turns out to be longer.
+     *
+     * @param input  stream to read
+     * @param length expected number of bytes, negative if unknown
+     */
+    public static byte[] toByteArray(final InputStream input, final long length) throws IOException {
+        if (length < 0 || length > MAX_ARRAY_SIZE) {
+            return toByteArray(input);
+        }
+        final byte[] data = new byte[(int) length];
+        int offset = 0;
+        int nRead;
+        while (offset < data.length && (nRead = input.read(data, offset, data.length - offset)) != -1) {
+            offset += nRead;
+        }
+        if (offset < data.length) {
+            return Arrays.copyOf(data, offset);
+        }
+        final int next = input.read();
+        if (next == -1) {
+            return data;
+        }
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length * 2);
+        buffer.write(data);
+        buffer.write(next);
+        buffer.write(toByteArray(input));
+        return buffer.toByteArray();
+    }
+
 }
@@ -0,0 +1,241 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timer wheel for request deadlines. Scheduling and cancelling a timeout are constant time operations, which
+ * makes the wheel suitable for timeouts that are nearly always cancelled before expiring. The expiration happens with
+ * the granularity of one tick, on a single daemon thread shared by all the users of the wheel, therefore the expired
+ * tasks must be short and must not block.
+ */
+public class TimerWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerWheel.class);
+
+    private static final TimerWheel DEFAULT = new TimerWheel(10, TimeUnit.MILLISECONDS, 512);
+
+    /**
+     * @return timer wheel shared by all the connections, with a tick of 10 milliseconds
+     */
+    public static TimerWheel getDefault() {
+        return DEFAULT;
+    }
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> scheduled;
+    private final Queue<Timeout> cancelled;
+    private final AtomicBoolean started;
+
+    /**
+     * @param tickDuration  duration of a tick
+     * @param unit          time unit of {@code tickDuration}
+     * @param ticksPerWheel number of buckets of the wheel, rounded up to the next power of two
+     */
+    public TimerWheel(final long tickDuration, final TimeUnit unit, final int ticksPerWheel) {
+        super();
+        this.tickDuration = unit.toNanos(tickDuration);
+        final int size = Integer.highestOneBit(Math.max(ticksPerWheel - 1, 1)) << 1;
+        wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = size - 1;
+        scheduled = new ConcurrentLinkedQueue<>();
+        cancelled = new ConcurrentLinkedQueue<>();
+        started = new AtomicBoolean();
+    }
+
+    /**
+     * Schedules the given task to be run once, after the given delay.
+     *
+     * @return handle to cancel the task
+     */
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        if (started.compareAndSet(false, true)) {
+            final Thread worker = new Thread(this::run, "adb-timer-wheel");
+            worker.setDaemon(true);
+            worker.start();
+        }
+        final Timeout timeout = new Timeout(this, task, System.nanoTime() + unit.toNanos(delay));
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        final long startTime = System.nanoTime();
+        long tick = 0;
+        while (true) {
+            final long deadline = startTime + (tick + 1) * tickDuration;
+            long sleep;
+            while ((sleep = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(sleep);
+            }
+            removeCancelled();
+            transferScheduled(startTime, tick);
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferScheduled(final long startTime, final long tick) {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.state != Timeout.INIT) {
+                continue;
+            }
+            final long ticks = Math.max((timeout.deadline - startTime) / tickDuration, tick);
+            timeout.remainingRounds = (ticks - tick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private static void expire(final Bucket bucket) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            final Timeout next = timeout.next;
+            if (timeout.remainingRounds <= 0) {
+                bucket.remove(timeout);
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Handle of a task scheduled on the {@link TimerWheel}.
+     */
+    public static final class Timeout {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE = AtomicIntegerFieldUpdater
+                .newUpdater(Timeout.class, "state");
+
+        private final TimerWheel timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state;
+
+        // accessed only by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(final TimerWheel timer, final Runnable task, final long deadline) {
+            super();
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task, if it has not been run yet.
+         *
+         * @return {@code true} if the task has been cancelled
+         */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, INIT, CANCELLED)) {
+                return false;
+            }
+            timer.cancelled.add(this);
+            return true;
+        }
+
+        /**
+         * @return whether the task has been run
+         */
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE.compareAndSet(this, INIT, EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (final Throwable t) {
+                LOGGER.warn("Exception thrown by an expired timeout task", t);
+            }
+        }
+
+    }
+
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(final Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(final Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+    }
+
+}
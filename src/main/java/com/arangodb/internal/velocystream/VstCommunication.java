@@ -22,15 +22,17 @@ package com.arangodb.internal.velocystream;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.internal.ArangoDefaults;
-import com.arangodb.internal.net.AccessType;
 import com.arangodb.internal.net.Host;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.net.HostHandler;
+import com.arangodb.internal.net.HostSelection;
 import com.arangodb.internal.util.RequestUtils;
 import com.arangodb.internal.util.ResponseUtils;
 import com.arangodb.internal.velocystream.internal.Chunk;
 import com.arangodb.internal.velocystream.internal.Message;
+import com.arangodb.internal.velocystream.internal.PooledResponse;
 import com.arangodb.internal.velocystream.internal.VstConnection;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackParserException;
@@ -45,6 +47,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Mark Vollmary
@@ -62,87 +65,109 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
 
     protected final Integer chunksize;
     protected final HostHandler hostHandler;
+    private final VstEventLoopGroup eventLoopGroup;
 
     protected VstCommunication(final Integer timeout, final String user, final String password, final Boolean useSsl,
                                final SSLContext sslContext, final ArangoSerialization util, final Integer chunksize,
-                               final HostHandler hostHandler) {
+                               final HostHandler hostHandler, final VstEventLoopGroup eventLoopGroup) {
         this.user = user;
         this.password = password;
         this.util = util;
         this.hostHandler = hostHandler;
+        this.eventLoopGroup = eventLoopGroup;
         this.chunksize = chunksize != null ? chunksize : ArangoDefaults.CHUNK_DEFAULT_CONTENT_SIZE;
     }
 
     @SuppressWarnings("unchecked")
-    protected synchronized C connect(final HostHandle hostHandle, final AccessType accessType) {
-        Host host = hostHandler.get(hostHandle, accessType);
+    protected C connect(final HostSelection selection) {
+        final HostHandle hostHandle = selection.getHostHandle();
+        Host host = hostHandler.get(selection);
         while (true) {
             if (host == null) {
-                hostHandler.reset();
                 throw new ArangoDBException("Was not able to connect to any host");
             }
             final C connection = (C) host.connection();
-            if (connection.isOpen()) {
-                hostHandler.success();
+            if (connection.isReady()) {
+                hostHandler.success(selection);
                 return connection;
-            } else {
-                try {
-                    connection.open();
-                    hostHandler.success();
-                    if (user != null) {
-                        tryAuthenticate(connection);
-                    }
-                    hostHandler.confirm();
-                    if (!connection.isOpen()) {
-                        // see https://github.com/arangodb/arangodb-java-driver/issues/384
-                        hostHandler.fail();
-                        host = hostHandler.get(hostHandle, accessType);
-                        continue;
-                    }
+            }
+            // only the threads using this connection wait while it is opened and authenticated
+            final ReentrantLock connectLock = connection.getConnectLock();
+            connectLock.lock();
+            try {
+                if (connection.isOpen()) {
+                    // opened by another thread in the meantime
+                    hostHandler.success(selection);
                     return connection;
-                } catch (final IOException e) {
-                    hostHandler.fail();
-                    if (hostHandle != null && hostHandle.getHost() != null) {
-                        hostHandle.setHost(null);
-                    }
-                    final Host failedHost = host;
-                    host = hostHandler.get(hostHandle, accessType);
-                    if (host != null) {
-                        LOGGER.warn(String.format("Could not connect to %s", failedHost.getDescription()), e);
-                        LOGGER.warn(
-                                String.format("Could not connect to %s or SSL Handshake failed. Try connecting to %s",
-                                        failedHost.getDescription(), host.getDescription()));
-                    } else {
-                        LOGGER.error(e.getMessage(), e);
-                        throw new ArangoDBException(e);
+                } else {
+                    try {
+                        connection.open();
+                        hostHandler.success(selection);
+                        if (user != null) {
+                            tryAuthenticate(connection, selection);
+                        }
+                        hostHandler.confirm();
+                        if (!connection.isOpen()) {
+                            // see https://github.com/arangodb/arangodb-java-driver/issues/384
+                            hostHandler.fail(selection);
+                            host = hostHandler.get(selection);
+                            continue;
+                        }
+                        return connection;
+                    } catch (final IOException e) {
+                        hostHandler.fail(selection);
+                        if (hostHandle != null && hostHandle.getHost() != null) {
+                            hostHandle.setHost(null);
+                        }
+                        final Host failedHost = host;
+                        host = hostHandler.get(selection);
+                        if (host != null) {
+                            LOGGER.warn(String.format("Could not connect to %s", failedHost.getDescription()), e);
+                            LOGGER.warn(
+                                    String.format("Could not connect to %s or SSL Handshake failed. Try connecting to %s",
+                                            failedHost.getDescription(), host.getDescription()));
+                        } else {
+                            LOGGER.error(e.getMessage(), e);
+                            throw new ArangoDBException(e);
+                        }
                     }
                 }
+            } finally {
+                connectLock.unlock();
             }
         }
     }
 
-    private void tryAuthenticate(final C connection) {
+    private void tryAuthenticate(final C connection, final HostSelection selection) {
         try {
-            authenticate(connection);
+            authenticate(connection, selection);
         } catch (final ArangoDBException authException) {
             connection.close();
             throw authException;
         }
     }
 
-    protected abstract void authenticate(final C connection);
+    protected abstract void authenticate(final C connection, final HostSelection selection);
 
     @Override
     public void close() throws IOException {
-        hostHandler.close();
+        try {
+            hostHandler.close();
+        } finally {
+            if (eventLoopGroup != null) {
+                eventLoopGroup.close();
+            }
+        }
     }
 
     public R execute(final Request request, final HostHandle hostHandle) throws ArangoDBException {
-        final C connection = connect(hostHandle, RequestUtils.determineAccessType(request));
-        return execute(request, connection);
+        final HostSelection selection = new HostSelection(hostHandle, RequestUtils.determineAccessType(request));
+        final C connection = connect(selection);
+        return execute(request, connection, selection);
     }
 
-    protected abstract R execute(final Request request, C connection) throws ArangoDBException;
+    protected abstract R execute(final Request request, C connection, HostSelection selection)
+            throws ArangoDBException;
 
     protected void checkError(final Response response) throws ArangoDBException {
         ResponseUtils.checkError(util, response);
@@ -153,7 +178,7 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
         if (message.getBody() != null) {
             response.setBody(message.getBody());
         }
-        return response;
+        return new PooledResponse(response, message);
     }
 
     protected final Message createMessage(final Request request) throws VPackParserException {
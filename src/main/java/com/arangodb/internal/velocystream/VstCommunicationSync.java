@@ -25,10 +25,12 @@ import com.arangodb.internal.net.ArangoDBRedirectException;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.net.HostHandler;
+import com.arangodb.internal.net.HostSelection;
 import com.arangodb.internal.util.HostUtils;
 import com.arangodb.internal.velocystream.internal.AuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.Message;
 import com.arangodb.internal.velocystream.internal.VstConnectionSync;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.velocypack.exception.VPackParserException;
 import com.arangodb.velocystream.Request;
@@ -56,6 +58,7 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
         private SSLContext sslContext;
         private Integer chunksize;
         private Integer maxConnections;
+        private VstEventLoopGroup eventLoopGroup;
 
         public Builder(final HostHandler hostHandler) {
             super();
@@ -65,7 +68,8 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
         public Builder(final Builder builder) {
             this(builder.hostHandler);
             timeout(builder.timeout).user(builder.user).password(builder.password).useSsl(builder.useSsl)
-                    .sslContext(builder.sslContext).chunksize(builder.chunksize).maxConnections(builder.maxConnections);
+                    .sslContext(builder.sslContext).chunksize(builder.chunksize).maxConnections(builder.maxConnections)
+                    .eventLoopGroup(builder.eventLoopGroup);
         }
 
         public Builder timeout(final Integer timeout) {
@@ -108,24 +112,31 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
             return this;
         }
 
+        public Builder eventLoopGroup(final VstEventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+            return this;
+        }
+
         public VstCommunication<Response, VstConnectionSync> build(final ArangoSerialization util) {
             return new VstCommunicationSync(hostHandler, timeout, user, password, useSsl, sslContext, util, chunksize,
-                    maxConnections, connectionTtl);
+                    maxConnections, connectionTtl, eventLoopGroup);
         }
 
     }
 
     protected VstCommunicationSync(final HostHandler hostHandler, final Integer timeout, final String user,
                                    final String password, final Boolean useSsl, final SSLContext sslContext, final ArangoSerialization util,
-                                   final Integer chunksize, final Integer maxConnections, final Long ttl) {
-        super(timeout, user, password, useSsl, sslContext, util, chunksize, hostHandler);
+                                   final Integer chunksize, final Integer maxConnections, final Long ttl,
+                                   final VstEventLoopGroup eventLoopGroup) {
+        super(timeout, user, password, useSsl, sslContext, util, chunksize, hostHandler, eventLoopGroup);
     }
 
     @Override
-    protected Response execute(final Request request, final VstConnectionSync connection) throws ArangoDBException {
+    protected Response execute(final Request request, final VstConnectionSync connection,
+                               final HostSelection selection) throws ArangoDBException {
         try {
             final Message requestMessage = createMessage(request);
-            final Message responseMessage = send(requestMessage, connection);
+            final Message responseMessage = send(requestMessage, request.getTimeout(), connection);
             final Response response = createResponse(responseMessage);
             checkError(response);
             return response;
@@ -134,24 +145,26 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
         } catch (final ArangoDBRedirectException e) {
             final String location = e.getLocation();
             final HostDescription redirectHost = HostUtils.createFromLocation(location);
-            hostHandler.closeCurrentOnError();
-            hostHandler.fail();
+            selection.getHost().closeOnError();
+            hostHandler.fail(selection);
             return execute(request, new HostHandle().setHost(redirectHost));
         }
     }
 
-    private Message send(final Message message, final VstConnectionSync connection) throws ArangoDBException {
+    private Message send(final Message message, final Integer timeout, final VstConnectionSync connection)
+            throws ArangoDBException {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("Send Message (id=%s, head=%s, body=%s)", message.getId(), message.getHead(),
                     message.getBody() != null ? message.getBody() : "{}"));
         }
-        return connection.write(message, buildChunks(message));
+        return connection.write(message, buildChunks(message), timeout);
     }
 
     @Override
-    protected void authenticate(final VstConnectionSync connection) {
+    protected void authenticate(final VstConnectionSync connection, final HostSelection selection) {
         final Response response = execute(
-                new AuthenticationRequest(user, password != null ? password : "", ENCRYPTION_PLAIN), connection);
+                new AuthenticationRequest(user, password != null ? password : "", ENCRYPTION_PLAIN), connection,
+                selection);
         checkError(response);
     }
 
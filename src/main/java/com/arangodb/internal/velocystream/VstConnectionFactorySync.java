@@ -23,10 +23,13 @@ package com.arangodb.internal.velocystream;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.velocystream.internal.BufferPool;
 import com.arangodb.internal.velocystream.internal.MessageStore;
 import com.arangodb.internal.velocystream.internal.VstConnectionSync;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 
 import javax.net.ssl.SSLContext;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * @author Mark Vollmary
@@ -36,11 +39,16 @@ public class VstConnectionFactorySync implements ConnectionFactory {
     private final VstConnectionSync.Builder builder;
 
     public VstConnectionFactorySync(final HostDescription host, final Integer timeout, final Long connectionTtl,
-                                    final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext) {
+                                    final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext,
+                                    final VstEventLoopGroup eventLoopGroup, final Integer writeCoalescingDelay,
+                                    final Integer writeCoalescingMaxBytes, final ThreadFactory threadFactory,
+                                    final BufferPool bufferPool) {
         super();
         builder = new VstConnectionSync.Builder().timeout(timeout).ttl(connectionTtl)
                 .keepAliveInterval(keepAliveInterval).useSsl(useSsl)
-                .sslContext(sslContext);
+                .sslContext(sslContext).eventLoopGroup(eventLoopGroup)
+                .writeCoalescingDelay(writeCoalescingDelay).writeCoalescingMaxBytes(writeCoalescingMaxBytes)
+                .threadFactory(threadFactory).bufferPool(bufferPool);
     }
 
     @Override
@@ -0,0 +1,99 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Size-classed pool of the byte arrays used to reassemble incoming messages. Every size class holds arrays with a
+ * length of at least {@code 2^class}, requests larger than the biggest class are not pooled. Buffers not returned to
+ * the pool are simply garbage collected, therefore releasing them is an optimization and not a requirement. One pool is
+ * shared by all the connections of a driver instance, which bounds the retained memory independently of the number of
+ * connections.
+ */
+public class BufferPool {
+
+    private static final int MIN_CLASS = 9; // 512 bytes
+    private static final int MAX_CLASS = 20; // 1 MB
+    private static final int DEFAULT_MAX_BUFFERS_PER_CLASS = 8;
+
+    private final ConcurrentLinkedDeque<byte[]>[] classes;
+    private final AtomicInteger[] sizes;
+    private final int maxBuffersPerClass;
+
+    public BufferPool() {
+        this(DEFAULT_MAX_BUFFERS_PER_CLASS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public BufferPool(final int maxBuffersPerClass) {
+        super();
+        this.maxBuffersPerClass = maxBuffersPerClass;
+        classes = new ConcurrentLinkedDeque[MAX_CLASS + 1];
+        sizes = new AtomicInteger[MAX_CLASS + 1];
+        for (int i = MIN_CLASS; i <= MAX_CLASS; i++) {
+            classes[i] = new ConcurrentLinkedDeque<>();
+            sizes[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * @param length minimum length of the buffer
+     * @return a buffer with a length of at least {@code length}, rounded up to the next size class
+     */
+    public byte[] acquire(final int length) {
+        final int sizeClass = ceilClass(length);
+        if (sizeClass > MAX_CLASS) {
+            return new byte[length];
+        }
+        final byte[] buffer = classes[sizeClass].pollFirst();
+        if (buffer != null) {
+            sizes[sizeClass].decrementAndGet();
+            return buffer;
+        }
+        return new byte[1 << sizeClass];
+    }
+
+    /**
+     * Returns the given buffer to the pool. The buffer must not be used by the caller anymore.
+     */
+    public void release(final byte[] buffer) {
+        final int sizeClass = floorClass(buffer.length);
+        if (sizeClass < MIN_CLASS || sizeClass > MAX_CLASS) {
+            return;
+        }
+        if (sizes[sizeClass].incrementAndGet() > maxBuffersPerClass) {
+            sizes[sizeClass].decrementAndGet();
+            return;
+        }
+        classes[sizeClass].offerFirst(buffer);
+    }
+
+    private static int ceilClass(final int length) {
+        return Math.max(MIN_CLASS, 32 - Integer.numberOfLeadingZeros(Math.max(length, 1) - 1));
+    }
+
+    private static int floorClass(final int length) {
+        return 31 - Integer.numberOfLeadingZeros(length);
+    }
+
+}
@@ -31,16 +31,30 @@ import java.util.Map;
 public class ChunkStore {
 
     private final MessageStore messageStore;
+    private final BufferPool bufferPool;
     private final Map<Long, ByteBuffer> data;
 
     public ChunkStore(final MessageStore messageStore) {
+        this(messageStore, null);
+    }
+
+    public ChunkStore(final MessageStore messageStore, final BufferPool bufferPool) {
         super();
         this.messageStore = messageStore;
+        this.bufferPool = bufferPool;
         data = new HashMap<>();
     }
 
     public ByteBuffer storeChunk(final Chunk chunk) throws BufferUnderflowException, IndexOutOfBoundsException {
         final long messageId = chunk.getMessageId();
+        if (!messageStore.isPending(messageId)) {
+            // expired message, discard the already received chunks and skip the following ones
+            final ByteBuffer discarded = data.remove(messageId);
+            if (discarded != null && bufferPool != null) {
+                bufferPool.release(discarded.array());
+            }
+            return null;
+        }
         ByteBuffer chunkBuffer = data.get(messageId);
         if (chunkBuffer == null) {
             if (!chunk.isFirstChunk()) {
@@ -49,7 +63,8 @@ public class ChunkStore {
             }
             final int length = (int) (chunk.getMessageLength() > 0 ? chunk.getMessageLength()
                     : chunk.getContentLength());
-            chunkBuffer = ByteBuffer.allocate(length);
+            chunkBuffer = bufferPool != null ? ByteBuffer.wrap(bufferPool.acquire(length), 0, length)
+                    : ByteBuffer.allocate(length);
             data.put(messageId, chunkBuffer);
         }
         return chunkBuffer;
@@ -62,7 +77,7 @@ public class ChunkStore {
     private void checkCompleteness(final long messageId, final ByteBuffer chunkBuffer)
             throws BufferUnderflowException, IndexOutOfBoundsException {
         if (chunkBuffer.position() == chunkBuffer.limit()) {
-            messageStore.consume(new Message(messageId, chunkBuffer.array()));
+            messageStore.consume(new Message(messageId, chunkBuffer.array(), chunkBuffer.limit(), bufferPool));
             data.remove(messageId);
         }
     }
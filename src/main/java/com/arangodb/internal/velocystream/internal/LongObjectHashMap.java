@@ -0,0 +1,160 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open addressing hash map with primitive {@code long} keys and linear probing, avoiding the boxing of the keys and
+ * the allocation of an entry per mapping. {@code null} values are not supported. Not thread safe.
+ */
+class LongObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    LongObjectHashMap() {
+        super();
+        init(MIN_CAPACITY);
+    }
+
+    private void init(final int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(final long key) {
+        for (int i = hash(key) & mask; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return (V) values[i];
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(final long key, final V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value must not be null");
+        }
+        int i = hash(key) & mask;
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                final V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > (mask + 1) >> 1) {
+            resize();
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(final long key) {
+        for (int i = hash(key) & mask; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                final V previous = (V) values[i];
+                values[i] = null;
+                size--;
+                shiftBack(i);
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all the mappings.
+     *
+     * @return the removed values
+     */
+    @SuppressWarnings("unchecked")
+    List<V> clear() {
+        final List<V> removed = new ArrayList<>(size);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                removed.add((V) values[i]);
+                values[i] = null;
+            }
+        }
+        size = 0;
+        return removed;
+    }
+
+    /**
+     * Closes the gap left by a removed mapping, moving back the following mappings of the same probe sequence.
+     */
+    private void shiftBack(final int removed) {
+        int gap = removed;
+        for (int i = (gap + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            final int slot = hash(keys[i]) & mask;
+            // moves the mapping if its slot is not cyclically within (gap, i]
+            final boolean move = gap <= i ? (slot <= gap || slot > i) : (slot <= gap && slot > i);
+            if (move) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                values[i] = null;
+                gap = i;
+            }
+        }
+    }
+
+    private void resize() {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        init(oldKeys.length << 1);
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                int i = hash(oldKeys[j]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+}
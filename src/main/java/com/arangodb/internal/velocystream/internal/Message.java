@@ -32,13 +32,26 @@ public class Message {
     private final long id;
     private final VPackSlice head;
     private final VPackSlice body;
+    private final BufferPool bufferPool;
+    private byte[] buffer;
 
     public Message(final long id, final byte[] chunkBuffer) throws BufferUnderflowException, IndexOutOfBoundsException {
+        this(id, chunkBuffer, chunkBuffer.length, null);
+    }
+
+    /**
+     * @param chunkBuffer buffer containing the message in its first {@code length} bytes
+     * @param bufferPool  pool the buffer is returned to on {@link #release()}, can be {@code null}
+     */
+    public Message(final long id, final byte[] chunkBuffer, final int length, final BufferPool bufferPool)
+            throws BufferUnderflowException, IndexOutOfBoundsException {
         super();
         this.id = id;
+        this.bufferPool = bufferPool;
+        buffer = chunkBuffer;
         head = new VPackSlice(chunkBuffer);
         final int headSize = head.getByteSize();
-        if (chunkBuffer.length > headSize) {
+        if (length > headSize) {
             body = new VPackSlice(chunkBuffer, headSize);
         } else {
             body = null;
@@ -50,6 +63,7 @@ public class Message {
         this.id = id;
         this.head = head;
         this.body = body;
+        bufferPool = null;
     }
 
     public long getId() {
@@ -64,4 +78,15 @@ public class Message {
         return body;
     }
 
+    /**
+     * Returns the buffer backing head and body to the pool it was taken from. Neither the message nor any
+     * {@link VPackSlice} pointing into it must be used afterwards.
+     */
+    public synchronized void release() {
+        if (bufferPool != null && buffer != null) {
+            bufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+
 }
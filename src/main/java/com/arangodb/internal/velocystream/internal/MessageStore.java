@@ -21,92 +21,148 @@
 package com.arangodb.internal.velocystream.internal;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.internal.net.LatencyEwma;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.FutureTask;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 /**
+ * Table of the in-flight requests of a connection, keyed by message id. Every request is represented by a single
+ * {@link CompletableFuture}, which is completed directly by the thread reading the response. Expired requests are
+ * removed immediately, their responses are discarded on arrival. The response times of the requests are tracked in a
+ * {@link LatencyEwma}.
+ *
  * @author Mark Vollmary
  */
 public class MessageStore {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageStore.class);
 
-    private final Map<Long, FutureTask<Message>> task;
-    private final Map<Long, Message> response;
-    private final Map<Long, Exception> error;
+    private final LongObjectHashMap<Pending> pending;
+    // size of pending, readable without locking
+    private volatile int size;
+    private final LatencyEwma latency;
 
     public MessageStore() {
         super();
-        task = new ConcurrentHashMap<>();
-        response = new ConcurrentHashMap<>();
-        error = new ConcurrentHashMap<>();
+        pending = new LongObjectHashMap<>();
+        latency = new LatencyEwma();
+    }
+
+    private static final class Pending extends CompletableFuture<Message> {
+        private final long start = System.nanoTime();
+    }
+
+    /**
+     * @return future completed with the response of the message with the given id
+     */
+    public CompletableFuture<Message> storeMessage(final long messageId) {
+        final Pending future = new Pending();
+        synchronized (this) {
+            pending.put(messageId, future);
+            size = pending.size();
+        }
+        return future;
     }
 
-    public void storeMessage(final long messageId, final FutureTask<Message> future) {
-        task.put(messageId, future);
+    private synchronized Pending remove(final long messageId) {
+        final Pending future = pending.remove(messageId);
+        size = pending.size();
+        return future;
     }
 
     public void consume(final Message message) {
-        final FutureTask<Message> future = task.remove(message.getId());
+        final Pending future = remove(message.getId());
         if (future != null) {
+            latency.update(System.nanoTime() - future.start);
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug(String.format("Received Message (id=%s, head=%s, body=%s)", message.getId(),
                         message.getHead(), message.getBody() != null ? message.getBody() : "{}"));
             }
-            response.put(message.getId(), message);
-            future.run();
+            future.complete(message);
+        } else {
+            // the request has expired or has been cancelled in the meantime
+            message.release();
         }
     }
 
-    public Message get(final long messageId) throws ArangoDBException {
-        final Message result = response.remove(messageId);
-        if (result == null) {
-            final Exception e = error.remove(messageId);
-            if (e != null) {
-                throw new ArangoDBException(e);
+    /**
+     * @return whether the message with the given id is still waiting for its response
+     */
+    public synchronized boolean isPending(final long messageId) {
+        return pending.get(messageId) != null;
+    }
+
+    /**
+     * Completes exceptionally with a {@link TimeoutException} the message with the given id, if it is still waiting for
+     * its response.
+     *
+     * @param timeout the expired timeout in milliseconds, used for the exception message
+     */
+    public void expire(final long messageId, final long timeout) {
+        final Pending future = remove(messageId);
+        if (future != null) {
+            latency.update(System.nanoTime() - future.start);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("Expire Message (id=%s).", messageId));
             }
+            future.completeExceptionally(new TimeoutException(
+                    String.format("Message (id=%s) timed out after %s ms.", messageId, timeout)));
         }
-        return result;
     }
 
     public void cancel(final long messageId) {
-        final FutureTask<Message> future = task.remove(messageId);
+        final CompletableFuture<Message> future = remove(messageId);
         if (future != null) {
             LOGGER.error(String.format("Cancel Message unexpected (id=%s).", messageId));
             future.cancel(true);
         }
     }
 
-    public synchronized void clear(final Exception e) {
-        if (!task.isEmpty()) {
+    public void clear(final Exception e) {
+        final List<Pending> futures;
+        synchronized (this) {
+            futures = pending.clear();
+            size = 0;
+        }
+        if (!futures.isEmpty()) {
             LOGGER.error(e.getMessage(), e);
         }
-        for (final Entry<Long, FutureTask<Message>> entry : task.entrySet()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(String.format("Exceptionally complete Message (id=%s).", entry.getKey()));
-            }
-            error.put(entry.getKey(), e);
-            entry.getValue().run();
+        final ArangoDBException exception = new ArangoDBException(e);
+        for (final CompletableFuture<Message> future : futures) {
+            future.completeExceptionally(exception);
         }
-        task.clear();
     }
 
-    public synchronized void clear() {
-        for (final Entry<Long, FutureTask<Message>> entry : task.entrySet()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(String.format("Cancel Message (id=%s).", entry.getKey()));
-            }
-            entry.getValue().cancel(true);
+    public void clear() {
+        final List<Pending> futures;
+        synchronized (this) {
+            futures = pending.clear();
+            size = 0;
+        }
+        for (final CompletableFuture<Message> future : futures) {
+            future.cancel(true);
         }
-        task.clear();
     }
 
     public boolean isEmpty() {
-        return task.isEmpty();
+        return size == 0;
+    }
+
+    /**
+     * @return number of messages waiting for their response
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return average response time in nanoseconds, {@code 0} if no response has been received yet
+     */
+    public double getLatency() {
+        return latency.get();
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.velocystream.Response;
+
+/**
+ * {@link Response} whose body points into a pooled message buffer. The buffer can be returned to its pool via
+ * {@link #release()} as soon as the body has been consumed and no slice of it escapes.
+ */
+public class PooledResponse extends Response {
+
+    private final Message message;
+
+    public PooledResponse(final Response response, final Message message) {
+        super();
+        this.message = message;
+        setVersion(response.getVersion());
+        setType(response.getType());
+        setResponseCode(response.getResponseCode());
+        setMeta(response.getMeta());
+        setBody(response.getBody());
+    }
+
+    public void release() {
+        setBody(null);
+        message.release();
+    }
+
+}
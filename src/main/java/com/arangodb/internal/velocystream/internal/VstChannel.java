@@ -0,0 +1,283 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.internal.ArangoDefaults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking counterpart of the socket streams used by {@link VstConnection}. Reads are performed by the
+ * {@link VstEventLoop} the channel is registered to, which parses the incoming chunks and stores them into the
+ * {@link ChunkStore}. Writes are performed by the calling thread as far as the socket send buffer allows, the
+ * remaining bytes are flushed by the event loop as soon as the socket becomes writable again.
+ */
+class VstChannel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VstChannel.class);
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final String connectionName;
+    private final VstEventLoop eventLoop;
+    private final ChunkStore chunkStore;
+    private final Consumer<Exception> errorHandler;
+    private final Runnable readHandler;
+
+    private final ByteBuffer readBuffer;
+    private final ByteBuffer chunkHeader;
+    private int chunkHeaderSize;
+    private Chunk chunk;
+    private ByteBuffer chunkBuffer;
+    private int chunkRemaining;
+
+    private final ArrayDeque<ByteBuffer> outbound;
+    private boolean writeInterest;
+
+    private SocketChannel socketChannel;
+    private SelectionKey key;
+
+    VstChannel(final String connectionName, final VstEventLoop eventLoop, final ChunkStore chunkStore,
+               final Consumer<Exception> errorHandler, final Runnable readHandler) {
+        super();
+        this.connectionName = connectionName;
+        this.eventLoop = eventLoop;
+        this.chunkStore = chunkStore;
+        this.errorHandler = errorHandler;
+        this.readHandler = readHandler;
+        readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        chunkHeader = ByteBuffer.allocate(ArangoDefaults.CHUNK_MAX_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        chunkHeaderSize = ArangoDefaults.CHUNK_MIN_HEADER_SIZE;
+        outbound = new ArrayDeque<>();
+    }
+
+    /**
+     * Connects the channel in blocking mode, sends the given protocol header and switches the channel to
+     * non-blocking mode, handing it over to the event loop.
+     */
+    void open(final InetSocketAddress address, final int connectTimeout, final byte[] protocolHeader)
+            throws IOException {
+        socketChannel = SocketChannel.open();
+        try {
+            socketChannel.socket().connect(address, connectTimeout);
+            socketChannel.socket().setKeepAlive(true);
+            socketChannel.socket().setTcpNoDelay(true);
+            final ByteBuffer header = ByteBuffer.wrap(protocolHeader);
+            while (header.hasRemaining()) {
+                socketChannel.write(header);
+            }
+            socketChannel.configureBlocking(false);
+            key = eventLoop.register(socketChannel, this).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IOException(e);
+        } catch (final ExecutionException e) {
+            close();
+            throw new IOException(e.getCause());
+        } catch (final IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    boolean isOpen() {
+        return socketChannel != null && socketChannel.isOpen() && socketChannel.isConnected();
+    }
+
+    void close() {
+        if (socketChannel != null && socketChannel.isOpen()) {
+            try {
+                socketChannel.close();
+            } catch (final IOException e) {
+                LOGGER.warn("[" + connectionName + "]: Error while closing channel", e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(socketChannel);
+    }
+
+    /**
+     * Writes the given buffers in order, without waiting for the bytes not fitting into the socket send buffer to be
+     * transmitted.
+     */
+    void write(final Collection<ByteBuffer> buffers) throws IOException {
+        synchronized (outbound) {
+            outbound.addAll(buffers);
+            flush();
+        }
+    }
+
+    void onWritable() throws IOException {
+        synchronized (outbound) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        while (!outbound.isEmpty()) {
+            final long written = socketChannel.write(outbound.toArray(new ByteBuffer[0]));
+            while (!outbound.isEmpty() && !outbound.peek().hasRemaining()) {
+                outbound.poll();
+            }
+            if (written == 0 && !outbound.isEmpty()) {
+                setWriteInterest(true);
+                return;
+            }
+        }
+        setWriteInterest(false);
+    }
+
+    private void setWriteInterest(final boolean interest) {
+        if (writeInterest == interest) {
+            return;
+        }
+        writeInterest = interest;
+        final int ops = interest ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+        eventLoop.execute(() -> {
+            if (key.isValid()) {
+                key.interestOps(ops);
+            }
+        });
+    }
+
+    void onReadable() throws IOException {
+        if (chunkBuffer != null && readBuffer.position() == 0 && !readChunkContent()) {
+            readHandler.run();
+            return;
+        }
+        final int read = socketChannel.read(readBuffer);
+        if (read < 0) {
+            throw new IOException("Reached the end of the stream.");
+        }
+        readBuffer.flip();
+        try {
+            process(readBuffer);
+        } finally {
+            readBuffer.compact();
+        }
+        readHandler.run();
+    }
+
+    /**
+     * Reads the content of the current chunk straight into the buffer of its message, without passing through the
+     * read buffer.
+     *
+     * @return whether the chunk is complete
+     */
+    private boolean readChunkContent() throws IOException {
+        final int limit = chunkBuffer.limit();
+        chunkBuffer.limit(chunkBuffer.position() + chunkRemaining);
+        final int read;
+        try {
+            read = socketChannel.read(chunkBuffer);
+        } finally {
+            chunkBuffer.limit(limit);
+        }
+        if (read < 0) {
+            throw new IOException("Reached the end of the stream.");
+        }
+        chunkRemaining -= read;
+        if (chunkRemaining > 0) {
+            return false;
+        }
+        completeChunk();
+        return true;
+    }
+
+    void onError(final Exception e) {
+        errorHandler.accept(e);
+    }
+
+    private void process(final ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            if (chunk == null) {
+                transfer(buffer, chunkHeader, chunkHeaderSize - chunkHeader.position());
+                if (chunkHeader.position() == chunkHeaderSize) {
+                    readChunkHeader();
+                }
+            } else {
+                final int len = Math.min(chunkRemaining, buffer.remaining());
+                if (chunkBuffer != null) {
+                    transfer(buffer, chunkBuffer, len);
+                } else {
+                    buffer.position(buffer.position() + len);
+                }
+                chunkRemaining -= len;
+            }
+            if (chunk != null && chunkRemaining == 0) {
+                completeChunk();
+            }
+        }
+    }
+
+    private void completeChunk() {
+        if (chunkBuffer != null) {
+            chunkStore.checkCompleteness(chunk.getMessageId());
+        }
+        chunk = null;
+        chunkBuffer = null;
+    }
+
+    private void readChunkHeader() {
+        final int chunkX = chunkHeader.getInt(ArangoDefaults.INTEGER_BYTES);
+        if (chunkHeaderSize == ArangoDefaults.CHUNK_MIN_HEADER_SIZE && (1 == (chunkX & 0x1)) && ((chunkX >> 1) > 1)) {
+            // first chunk of a multi-chunk message, the header also contains the message length
+            chunkHeaderSize = ArangoDefaults.CHUNK_MAX_HEADER_SIZE;
+            return;
+        }
+        final int length = chunkHeader.getInt(0);
+        final long messageId = chunkHeader.getLong(ArangoDefaults.INTEGER_BYTES + ArangoDefaults.INTEGER_BYTES);
+        final long messageLength = chunkHeaderSize == ArangoDefaults.CHUNK_MAX_HEADER_SIZE
+                ? chunkHeader.getLong(ArangoDefaults.CHUNK_MIN_HEADER_SIZE) : -1L;
+        chunk = new Chunk(messageId, chunkX, messageLength, 0, length - chunkHeaderSize);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(String.format("[%s]: Received chunk %s:%s from message %s", connectionName, chunk.getChunk(),
+                    chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
+        }
+        chunkBuffer = chunkStore.storeChunk(chunk);
+        chunkRemaining = chunk.getContentLength();
+        chunkHeader.clear();
+        chunkHeaderSize = ArangoDefaults.CHUNK_MIN_HEADER_SIZE;
+    }
+
+    private static void transfer(final ByteBuffer src, final ByteBuffer dst, final int len) {
+        final int n = Math.min(len, src.remaining());
+        final int limit = src.limit();
+        src.limit(src.position() + n);
+        dst.put(src);
+        src.limit(limit);
+    }
+
+}
@@ -21,16 +21,17 @@
 package com.arangodb.internal.velocystream.internal;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ConnectionPoolStats;
 import com.arangodb.internal.ArangoDefaults;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.util.TimerWheel;
 import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.ValueType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.net.SocketFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -42,17 +43,26 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Mark Vollmary
@@ -64,6 +74,7 @@ public abstract class VstConnection<T> implements Connection {
     private ExecutorService executor;
 
     private ScheduledExecutorService keepAliveScheduler;
+    private ScheduledFuture<?> keepAliveTask;
     private final AtomicLong keepAliveId = new AtomicLong();
 
     protected final MessageStore messageStore;
@@ -72,15 +83,35 @@ public abstract class VstConnection<T> implements Connection {
     private final Long ttl;
 
     private final Integer keepAliveInterval;
-    private int keepAliveFailCounter = 0;
+    private final AtomicInteger keepAliveFailCounter = new AtomicInteger();
+    private volatile CompletableFuture<Message> keepAliveProbe;
 
     private final Boolean useSsl;
     private final SSLContext sslContext;
 
-    private Socket socket;
+    private volatile Socket socket;
+    private SocketChannel socketChannel;
     private OutputStream outputStream;
     private InputStream inputStream;
 
+    private final VstEventLoopGroup eventLoopGroup;
+    private volatile VstChannel channel;
+
+    private final Integer writeCoalescingDelay;
+    private final Integer writeCoalescingMaxBytes;
+    private final ThreadFactory threadFactory;
+    private ScheduledExecutorService writeExecutor;
+    private volatile VstWriteQueue writeQueue;
+
+    // held while opening, closing and writing, instead of a monitor, not to pin virtual threads blocked on I/O
+    private final ReentrantLock lock = new ReentrantLock();
+    // held while opening and authenticating, so that no request is sent over the connection in the meantime
+    private final ReentrantLock connectLock = new ReentrantLock();
+    private final BufferPool bufferPool;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(ArangoDefaults.CHUNK_MAX_HEADER_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    private byte[] chunkHeads;
+
     private final HostDescription host;
 
     private final Map<Long, Long> sendTimestamps = new ConcurrentHashMap<>();
@@ -107,7 +138,12 @@ public abstract class VstConnection<T> implements Connection {
                             final Integer keepAliveInterval,
                             final Boolean useSsl,
                             final SSLContext sslContext,
-                            final MessageStore messageStore) {
+                            final MessageStore messageStore,
+                            final VstEventLoopGroup eventLoopGroup,
+                            final Integer writeCoalescingDelay,
+                            final Integer writeCoalescingMaxBytes,
+                            final ThreadFactory threadFactory,
+                            final BufferPool bufferPool) {
         super();
         this.host = host;
         this.timeout = timeout;
@@ -116,199 +152,417 @@ public abstract class VstConnection<T> implements Connection {
         this.useSsl = useSsl;
         this.sslContext = sslContext;
         this.messageStore = messageStore;
+        this.eventLoopGroup = eventLoopGroup;
+        this.writeCoalescingDelay = writeCoalescingDelay;
+        this.writeCoalescingMaxBytes = writeCoalescingMaxBytes;
+        this.threadFactory = threadFactory != null ? threadFactory : Executors.defaultThreadFactory();
+        this.bufferPool = bufferPool != null ? bufferPool : new BufferPool();
 
         connectionName = "connection_" + System.currentTimeMillis() + "_" + Math.random();
         LOGGER.debug("[" + connectionName + "]: Connection created");
     }
 
     protected T sendKeepAlive() {
+        final Message message = keepAliveMessage();
+        return write(message, keepAliveChunks(message), null);
+    }
+
+    private Message keepAliveMessage() {
         long id = keepAliveId.decrementAndGet();
         Message message = new Message(id, keepAliveRequest, null);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("[%s]: Send keepalive probe (id=%s, head=%s, body=%s)", connectionName, message.getId(), message.getHead(),
                     message.getBody() != null ? message.getBody() : "{}"));
         }
-        return write(message, Collections.singleton(new Chunk(
-                id, 0, 1, -1,
+        return message;
+    }
+
+    private Collection<Chunk> keepAliveChunks(final Message message) {
+        return Collections.singleton(new Chunk(
+                message.getId(), 0, 1, -1,
                 0, keepAliveRequest.getByteSize()
-        )));
+        ));
     }
 
-    public abstract T write(final Message message, final Collection<Chunk> chunks);
+    /**
+     * @param timeout client side timeout of the request in milliseconds, {@code null} for the timeout of the connection
+     */
+    public abstract T write(final Message message, final Collection<Chunk> chunks, final Integer timeout);
+
+    /**
+     * Registers the given message as in-flight. If a timeout applies, the message is expired by the shared
+     * {@link TimerWheel} and removed from the {@link MessageStore} as soon as its deadline is reached.
+     *
+     * @param timeout client side timeout of the request in milliseconds, {@code null} for the timeout of the connection
+     * @return future completed with the response
+     */
+    protected CompletableFuture<Message> storeMessage(final long messageId, final Integer timeout) {
+        final CompletableFuture<Message> future = messageStore.storeMessage(messageId);
+        final Integer effectiveTimeout = timeout != null ? timeout : this.timeout;
+        if (effectiveTimeout != null && effectiveTimeout > 0) {
+            final TimerWheel.Timeout expiration = TimerWheel.getDefault().schedule(
+                    () -> messageStore.expire(messageId, effectiveTimeout), effectiveTimeout, TimeUnit.MILLISECONDS);
+            future.whenComplete((m, e) -> expiration.cancel());
+        }
+        return future;
+    }
 
     protected abstract void doKeepAlive();
 
     private void keepAlive() {
         try {
             doKeepAlive();
-            keepAliveFailCounter = 0;
+            keepAliveFailCounter.set(0);
         } catch (Exception e) {
-            LOGGER.error("Got exception while performing keepAlive request:", e);
-            keepAliveFailCounter++;
-            if (keepAliveFailCounter >= 3) {
-                LOGGER.error("KeepAlive request failed consecutively for 3 times, closing connection now...");
-                messageStore.clear(new IOException("Connection unresponsive!"));
-                close();
-            }
+            keepAliveFailed(e);
         }
     }
 
-    public boolean isOpen() {
-        return socket != null && socket.isConnected() && !socket.isClosed();
-    }
-
-    public synchronized void open() throws IOException {
-        if (isOpen()) {
+    /**
+     * Keep-alive of the event loop mode. The scheduler threads are shared with the write queues of all the
+     * connections, which send the probe, therefore the response of the probe is never waited for.
+     */
+    private void keepAliveAsync() {
+        final CompletableFuture<Message> pending = keepAliveProbe;
+        if (pending != null && !pending.isDone()) {
+            // no further probe piles up behind one without response, it fails on the timeout of the connection
             return;
         }
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(String.format("[%s]: Open connection to %s", connectionName, host));
-        }
-        if (Boolean.TRUE == useSsl) {
-            if (sslContext != null) {
-                socket = sslContext.getSocketFactory().createSocket();
+        final Message message = keepAliveMessage();
+        final CompletableFuture<Message> probe = storeMessage(message.getId(), null);
+        keepAliveProbe = probe;
+        probe.whenComplete((response, e) -> {
+            if (e != null) {
+                keepAliveFailed(e);
             } else {
-                socket = SSLSocketFactory.getDefault().createSocket();
+                keepAliveFailCounter.set(0);
             }
-        } else {
-            socket = SocketFactory.getDefault().createSocket();
+        });
+        try {
+            writeIntern(message, keepAliveChunks(message));
+        } catch (Exception e) {
+            LOGGER.error("Got exception while sending keepAlive request:", e);
+            // completes the probe, counting the failure
+            messageStore.cancel(message.getId());
         }
-        socket.connect(new InetSocketAddress(host.getHost(), host.getPort()), timeout != null ? timeout : ArangoDefaults.DEFAULT_TIMEOUT);
-        socket.setKeepAlive(true);
-        socket.setTcpNoDelay(true);
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(String.format("[%s]: Connected to %s", connectionName, socket));
+    }
+
+    private void keepAliveFailed(final Throwable e) {
+        LOGGER.error("Got exception while performing keepAlive request:", e);
+        if (keepAliveFailCounter.incrementAndGet() >= 3) {
+            LOGGER.error("KeepAlive request failed consecutively for 3 times, closing connection now...");
+            messageStore.clear(new IOException("Connection unresponsive!"));
+            close();
         }
+    }
 
-        outputStream = new BufferedOutputStream(socket.getOutputStream());
-        inputStream = socket.getInputStream();
+    /**
+     * @return lock to hold while opening and authenticating the connection
+     */
+    public ReentrantLock getConnectLock() {
+        return connectLock;
+    }
+
+    /**
+     * @return whether the connection is open and not being opened or authenticated by another thread
+     */
+    public boolean isReady() {
+        return isOpen() && !connectLock.isLocked();
+    }
+
+    @Override
+    public boolean isOpen() {
+        if (channel != null) {
+            return channel.isOpen();
+        }
+        return socket != null && socket.isConnected() && !socket.isClosed();
+    }
 
-        if (Boolean.TRUE == useSsl) {
+    public void open() throws IOException {
+        lock.lock();
+        try {
+            if (isOpen()) {
+                return;
+            }
             if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(String.format("[%s]: Start Handshake on %s", connectionName, socket));
+                LOGGER.debug(String.format("[%s]: Open connection to %s", connectionName, host));
+            }
+            // SSL connections are not supported by the non-blocking transport and always use a blocking socket
+            if (eventLoopGroup != null && Boolean.TRUE != useSsl) {
+                openChannel();
+                return;
+            }
+            if (Boolean.TRUE == useSsl) {
+                if (sslContext != null) {
+                    socket = sslContext.getSocketFactory().createSocket();
+                } else {
+                    socket = SSLSocketFactory.getDefault().createSocket();
+                }
+            } else {
+                // plain connections are backed by a channel, allowing gathering writes
+                socketChannel = SocketChannel.open();
+                socket = socketChannel.socket();
+            }
+            socket.connect(new InetSocketAddress(host.getHost(), host.getPort()), timeout != null ? timeout : ArangoDefaults.DEFAULT_TIMEOUT);
+            socket.setKeepAlive(true);
+            socket.setTcpNoDelay(true);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("[%s]: Connected to %s", connectionName, socket));
             }
-            ((SSLSocket) socket).startHandshake();
-        }
-        sendProtocolHeader();
 
-        executor = Executors.newSingleThreadExecutor();
-        executor.submit((Callable<Void>) () -> {
-            LOGGER.debug("[" + connectionName + "]: Start Callable");
+            outputStream = new BufferedOutputStream(socket.getOutputStream());
+            inputStream = socket.getInputStream();
 
-            final long openTime = new Date().getTime();
-            final Long ttlTime = ttl != null ? openTime + ttl : null;
-            final ChunkStore chunkStore = new ChunkStore(messageStore);
-            while (true) {
-                if (ttlTime != null && new Date().getTime() > ttlTime && messageStore.isEmpty()) {
-                    close();
-                    break;
-                }
-                if (!isOpen()) {
-                    messageStore.clear(new IOException("The socket is closed."));
-                    close();
-                    break;
+            if (Boolean.TRUE == useSsl) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(String.format("[%s]: Start Handshake on %s", connectionName, socket));
                 }
-                try {
-                    final Chunk chunk = readChunk();
-                    final ByteBuffer chunkBuffer = chunkStore.storeChunk(chunk);
-                    if (chunkBuffer != null) {
-                        final byte[] buf = new byte[chunk.getContentLength()];
-                        readBytesIntoBuffer(buf, 0, buf.length);
-                        chunkBuffer.put(buf);
-                        chunkStore.checkCompleteness(chunk.getMessageId());
+                ((SSLSocket) socket).startHandshake();
+            }
+            sendProtocolHeader();
+
+            executor = Executors.newSingleThreadExecutor(threadFactory);
+            executor.submit((Callable<Void>) () -> {
+                LOGGER.debug("[" + connectionName + "]: Start Callable");
+
+                final long openTime = new Date().getTime();
+                final Long ttlTime = ttl != null ? openTime + ttl : null;
+                final ChunkStore chunkStore = new ChunkStore(messageStore, bufferPool);
+                while (true) {
+                    if (ttlTime != null && new Date().getTime() > ttlTime && messageStore.isEmpty()) {
+                        close();
+                        break;
+                    }
+                    if (!isOpen()) {
+                        messageStore.clear(new IOException("The socket is closed."));
+                        close();
+                        break;
+                    }
+                    try {
+                        final Chunk chunk = readChunk();
+                        final ByteBuffer chunkBuffer = chunkStore.storeChunk(chunk);
+                        if (chunkBuffer != null) {
+                            final int contentLength = chunk.getContentLength();
+                            readBytesIntoBuffer(chunkBuffer.array(), chunkBuffer.position(), contentLength);
+                            chunkBuffer.position(chunkBuffer.position() + contentLength);
+                            chunkStore.checkCompleteness(chunk.getMessageId());
+                        } else {
+                            skipBytes(chunk.getContentLength());
+                        }
+                    } catch (final Exception e) {
+                        messageStore.clear(e);
+                        close();
+                        break;
                     }
-                } catch (final Exception e) {
-                    messageStore.clear(e);
-                    close();
-                    break;
                 }
+
+                LOGGER.debug("[" + connectionName + "]: Stop Callable");
+
+                return null;
+            });
+
+            if (writeCoalescingDelay != null) {
+                writeExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+                writeQueue = createWriteQueue(writeExecutor);
             }
 
-            LOGGER.debug("[" + connectionName + "]: Stop Callable");
+            if (keepAliveInterval != null) {
+                keepAliveScheduler = Executors.newScheduledThreadPool(1, threadFactory);
+                keepAliveScheduler.scheduleAtFixedRate(this::keepAlive, 0, keepAliveInterval, TimeUnit.SECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            return null;
-        });
+    private void openChannel() throws IOException {
+        final long openTime = new Date().getTime();
+        final Long ttlTime = ttl != null ? openTime + ttl : null;
+        channel = new VstChannel(connectionName, eventLoopGroup.next(), new ChunkStore(messageStore, bufferPool),
+                e -> {
+                    messageStore.clear(e);
+                    close();
+                },
+                () -> {
+                    if (ttlTime != null && new Date().getTime() > ttlTime && messageStore.isEmpty()) {
+                        close();
+                    }
+                });
+        channel.open(new InetSocketAddress(host.getHost(), host.getPort()),
+                timeout != null ? timeout : ArangoDefaults.DEFAULT_TIMEOUT, PROTOCOL_HEADER);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(String.format("[%s]: Connected to %s", connectionName, channel));
+        }
+
+        if (writeCoalescingDelay != null) {
+            writeQueue = createWriteQueue(eventLoopGroup.scheduler());
+        }
 
         if (keepAliveInterval != null) {
-            keepAliveScheduler = Executors.newScheduledThreadPool(1);
-            keepAliveScheduler.scheduleAtFixedRate(this::keepAlive, 0, keepAliveInterval, TimeUnit.SECONDS);
+            keepAliveTask = eventLoopGroup.scheduler()
+                    .scheduleAtFixedRate(this::keepAliveAsync, 0, keepAliveInterval, TimeUnit.SECONDS);
         }
+    }
 
+    private VstWriteQueue createWriteQueue(final ScheduledExecutorService executor) {
+        final int maxBytes = writeCoalescingMaxBytes != null ? writeCoalescingMaxBytes
+                : ArangoDefaults.DEFAULT_WRITE_COALESCING_MAX_BYTES;
+        return new VstWriteQueue(executor, writeCoalescingDelay, maxBytes, this::writeBuffers, e -> {
+            LOGGER.error("Error on Connection " + connectionName);
+            messageStore.clear(e);
+            close();
+        });
     }
 
     @Override
-    public synchronized void close() {
-        if (keepAliveScheduler != null) {
-            keepAliveScheduler.shutdownNow();
+    public void close() {
+        lock.lock();
+        try {
+            if (keepAliveScheduler != null) {
+                keepAliveScheduler.shutdownNow();
+            }
+            if (keepAliveTask != null) {
+                keepAliveTask.cancel(false);
+            }
+            writeQueue = null;
+            if (writeExecutor != null) {
+                writeExecutor.shutdown();
+            }
+            messageStore.clear();
+            if (executor != null && !executor.isShutdown()) {
+                executor.shutdown();
+            }
+            if (channel != null && channel.isOpen()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(String.format("[%s]: Close connection %s", connectionName, channel));
+                }
+                channel.close();
+            }
+            if (socket != null && !socket.isClosed()) {
+                try {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(String.format("[%s]: Close connection %s", connectionName, socket));
+                    }
+                    socket.close();
+                } catch (final IOException e) {
+                    throw new ArangoDBException(e);
+                }
+            }
+        } finally {
+            lock.unlock();
         }
-        messageStore.clear();
-        if (executor != null && !executor.isShutdown()) {
-            executor.shutdown();
+    }
+
+    private void sendProtocolHeader() throws IOException {
+        lock.lock();
+        try {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("[%s]: Send velocystream protocol header to %s", connectionName, socket));
+            }
+            outputStream.write(PROTOCOL_HEADER);
+            outputStream.flush();
+        } finally {
+            lock.unlock();
         }
-        if (socket != null && !socket.isClosed()) {
+    }
+
+    protected void writeIntern(final Message message, final Collection<Chunk> chunks) throws ArangoDBException {
+        final VstWriteQueue queue = writeQueue;
+        try {
+            if (queue != null) {
+                // the buffers are written later on, therefore the chunk heads are not reused
+                queue.offer(createBuffers(message, chunks, newChunkHeads(chunks.size())));
+                return;
+            }
+            lock.lock();
             try {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("[%s]: Close connection %s", connectionName, socket));
-                }
-                socket.close();
-            } catch (final IOException e) {
-                throw new ArangoDBException(e);
+                // the non-blocking channel can still hold the buffers after returning, therefore its chunk heads are
+                // not reused
+                final byte[] chunkHeads = channel != null ? newChunkHeads(chunks.size())
+                        : reusableChunkHeads(chunks.size());
+                writeBuffers(createBuffers(message, chunks, chunkHeads));
+            } finally {
+                lock.unlock();
             }
+        } catch (final IOException e) {
+            LOGGER.error("Error on Connection " + connectionName);
+            throw new ArangoDBException(e);
         }
     }
 
-    private synchronized void sendProtocolHeader() throws IOException {
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(String.format("[%s]: Send velocystream protocol header to %s", connectionName, socket));
+    private void writeBuffers(final ByteBuffer[] buffers) throws IOException {
+        if (channel != null) {
+            channel.write(Arrays.asList(buffers));
+        } else if (socketChannel != null) {
+            final ByteBuffer last = buffers[buffers.length - 1];
+            while (last.hasRemaining()) {
+                socketChannel.write(buffers);
+            }
+        } else {
+            for (final ByteBuffer buffer : buffers) {
+                outputStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            }
+            outputStream.flush();
+        }
+    }
+
+    private static byte[] newChunkHeads(final int chunks) {
+        return new byte[chunks * ArangoDefaults.CHUNK_MAX_HEADER_SIZE];
+    }
+
+    private byte[] reusableChunkHeads(final int chunks) {
+        final int size = chunks * ArangoDefaults.CHUNK_MAX_HEADER_SIZE;
+        if (chunkHeads == null || chunkHeads.length < size) {
+            chunkHeads = new byte[size];
         }
-        outputStream.write(PROTOCOL_HEADER);
-        outputStream.flush();
+        return chunkHeads;
     }
 
-    protected synchronized void writeIntern(final Message message, final Collection<Chunk> chunks)
-            throws ArangoDBException {
+    /**
+     * Splits the given message into the sequence of chunk heads and chunk contents to be sent, the chunk heads are
+     * written into the given array.
+     */
+    private ByteBuffer[] createBuffers(final Message message, final Collection<Chunk> chunks, final byte[] chunkHeads) {
+        final VPackSlice head = message.getHead();
+        final int headLength = head.getByteSize();
+        final VPackSlice body = message.getBody();
+        final ByteBuffer heads = ByteBuffer.wrap(chunkHeads).order(ByteOrder.LITTLE_ENDIAN);
+        final List<ByteBuffer> buffers = new ArrayList<>(chunks.size() * 3);
         for (final Chunk chunk : chunks) {
-            try {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("[%s]: Send chunk %s:%s from message %s", connectionName, chunk.getChunk(),
-                            chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
-                    sendTimestamps.put(chunk.getMessageId(), System.currentTimeMillis());
-                }
-                writeChunkHead(chunk);
-                final int contentOffset = chunk.getContentOffset();
-                final int contentLength = chunk.getContentLength();
-                final VPackSlice head = message.getHead();
-                final int headLength = head.getByteSize();
-                int written = 0;
-                if (contentOffset < headLength) {
-                    written = Math.min(contentLength, headLength - contentOffset);
-                    outputStream.write(head.getBuffer(), contentOffset, written);
-                }
-                if (written < contentLength) {
-                    final VPackSlice body = message.getBody();
-                    outputStream.write(body.getBuffer(), contentOffset + written - headLength, contentLength - written);
-                }
-                outputStream.flush();
-            } catch (final IOException e) {
-                LOGGER.error("Error on Connection " + connectionName);
-                throw new ArangoDBException(e);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("[%s]: Send chunk %s:%s from message %s", connectionName, chunk.getChunk(),
+                        chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
+                sendTimestamps.put(chunk.getMessageId(), System.currentTimeMillis());
+            }
+            final int offset = heads.position();
+            putChunkHead(heads, chunk);
+            buffers.add(ByteBuffer.wrap(chunkHeads, offset, heads.position() - offset));
+            final int contentOffset = chunk.getContentOffset();
+            final int contentLength = chunk.getContentLength();
+            int written = 0;
+            if (contentOffset < headLength) {
+                written = Math.min(contentLength, headLength - contentOffset);
+                buffers.add(ByteBuffer.wrap(head.getBuffer(), head.getStart() + contentOffset, written));
+            }
+            if (written < contentLength) {
+                buffers.add(ByteBuffer.wrap(body.getBuffer(), body.getStart() + contentOffset + written - headLength,
+                        contentLength - written));
             }
         }
+        return buffers.toArray(new ByteBuffer[0]);
     }
 
-    private synchronized void writeChunkHead(final Chunk chunk) throws IOException {
+    private static void putChunkHead(final ByteBuffer buffer, final Chunk chunk) {
         final long messageLength = chunk.getMessageLength();
         final int headLength = messageLength > -1L ? ArangoDefaults.CHUNK_MAX_HEADER_SIZE
                 : ArangoDefaults.CHUNK_MIN_HEADER_SIZE;
         final int length = chunk.getContentLength() + headLength;
-        final ByteBuffer buffer = ByteBuffer.allocate(headLength).order(ByteOrder.LITTLE_ENDIAN);
         buffer.putInt(length);
         buffer.putInt(chunk.getChunkX());
         buffer.putLong(chunk.getMessageId());
         if (messageLength > -1L) {
             buffer.putLong(messageLength);
         }
-        outputStream.write(buffer.array());
     }
 
     protected Chunk readChunk() throws IOException {
@@ -336,9 +590,24 @@ public abstract class VstConnection<T> implements Connection {
     }
 
     private ByteBuffer readBytes(final int len) throws IOException {
-        final byte[] buf = new byte[len];
-        readBytesIntoBuffer(buf, 0, len);
-        return ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+        readBuffer.clear();
+        readBytesIntoBuffer(readBuffer.array(), 0, len);
+        readBuffer.limit(len);
+        return readBuffer;
+    }
+
+    private void skipBytes(final int len) throws IOException {
+        for (long skipped = 0; skipped < len; ) {
+            final long n = inputStream.skip(len - skipped);
+            if (n <= 0) {
+                if (inputStream.read() == -1) {
+                    throw new IOException("Reached the end of the stream.");
+                }
+                skipped++;
+            } else {
+                skipped += n;
+            }
+        }
     }
 
     protected void readBytesIntoBuffer(final byte[] buf, final int off, final int len) throws IOException {
@@ -356,4 +625,22 @@ public abstract class VstConnection<T> implements Connection {
         return this.connectionName;
     }
 
+    @Override
+    public int getInFlightRequests() {
+        return messageStore.size();
+    }
+
+    @Override
+    public double getLatency() {
+        return messageStore.getLatency();
+    }
+
+    @Override
+    public ConnectionPoolStats getStats() {
+        final boolean open = isOpen();
+        final boolean leased = open && getInFlightRequests() > 0;
+        return new ConnectionPoolStats(host.getHost() + ":" + host.getPort(), leased ? 1 : 0,
+                open && !leased ? 1 : 0, 0, 1);
+    }
+
 }
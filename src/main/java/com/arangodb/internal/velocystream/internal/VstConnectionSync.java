@@ -25,8 +25,9 @@ import com.arangodb.internal.net.HostDescription;
 
 import javax.net.ssl.SSLContext;
 import java.util.Collection;
-import java.util.concurrent.FutureTask;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * @author Mark Vollmary
@@ -42,6 +43,11 @@ public class VstConnectionSync extends VstConnection<Message> {
         private Integer keepAliveInterval;
         private Boolean useSsl;
         private SSLContext sslContext;
+        private VstEventLoopGroup eventLoopGroup;
+        private Integer writeCoalescingDelay;
+        private Integer writeCoalescingMaxBytes;
+        private ThreadFactory threadFactory;
+        private BufferPool bufferPool;
 
         public Builder host(final HostDescription host) {
             this.host = host;
@@ -78,24 +84,57 @@ public class VstConnectionSync extends VstConnection<Message> {
             return this;
         }
 
+        public Builder eventLoopGroup(final VstEventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+            return this;
+        }
+
+        public Builder writeCoalescingDelay(final Integer writeCoalescingDelay) {
+            this.writeCoalescingDelay = writeCoalescingDelay;
+            return this;
+        }
+
+        public Builder writeCoalescingMaxBytes(final Integer writeCoalescingMaxBytes) {
+            this.writeCoalescingMaxBytes = writeCoalescingMaxBytes;
+            return this;
+        }
+
+        public Builder threadFactory(final ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        public Builder bufferPool(final BufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
         public VstConnectionSync build() {
             return new VstConnectionSync(host, timeout, ttl, keepAliveInterval,
-                    useSsl, sslContext, messageStore);
+                    useSsl, sslContext, messageStore, eventLoopGroup, writeCoalescingDelay, writeCoalescingMaxBytes,
+                    threadFactory, bufferPool);
         }
     }
 
     private VstConnectionSync(final HostDescription host, final Integer timeout, final Long ttl, final Integer keepAliveInterval,
-                              final Boolean useSsl, final SSLContext sslContext, final MessageStore messageStore) {
-        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore);
+                              final Boolean useSsl, final SSLContext sslContext, final MessageStore messageStore,
+                              final VstEventLoopGroup eventLoopGroup, final Integer writeCoalescingDelay,
+                              final Integer writeCoalescingMaxBytes, final ThreadFactory threadFactory,
+                              final BufferPool bufferPool) {
+        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore, eventLoopGroup,
+                writeCoalescingDelay, writeCoalescingMaxBytes, threadFactory, bufferPool);
     }
 
     @Override
-    public Message write(final Message message, final Collection<Chunk> chunks) throws ArangoDBException {
-        final FutureTask<Message> task = new FutureTask<>(() -> messageStore.get(message.getId()));
-        messageStore.storeMessage(message.getId(), task);
+    public Message write(final Message message, final Collection<Chunk> chunks, final Integer timeout)
+            throws ArangoDBException {
+        final CompletableFuture<Message> future = storeMessage(message.getId(), timeout);
         super.writeIntern(message, chunks);
         try {
-            return timeout == null || timeout == 0L ? task.get() : task.get(timeout, TimeUnit.MILLISECONDS);
+            return future.get();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof ArangoDBException ? (ArangoDBException) cause : new ArangoDBException(cause);
         } catch (final Exception e) {
             throw new ArangoDBException(e);
         }
@@ -0,0 +1,145 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Single selector thread multiplexing the socket channels of many {@link VstChannel}s.
+ */
+class VstEventLoop implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VstEventLoop.class);
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks;
+    private final Thread thread;
+    private volatile boolean running;
+
+    VstEventLoop(final String name) throws IOException {
+        super();
+        selector = Selector.open();
+        tasks = new ConcurrentLinkedQueue<>();
+        running = true;
+        thread = new Thread(this, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Runs the given task on the selector thread.
+     */
+    void execute(final Runnable task) {
+        if (inEventLoop()) {
+            task.run();
+        } else {
+            tasks.add(task);
+            selector.wakeup();
+        }
+    }
+
+    CompletableFuture<SelectionKey> register(final SocketChannel socketChannel, final VstChannel channel) {
+        final CompletableFuture<SelectionKey> future = new CompletableFuture<>();
+        execute(() -> {
+            try {
+                future.complete(socketChannel.register(selector, SelectionKey.OP_READ, channel));
+            } catch (final ClosedChannelException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void run() {
+        LOGGER.debug("[{}]: Start event loop", thread.getName());
+        while (running) {
+            try {
+                selector.select();
+                runTasks();
+                final Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    final SelectionKey key = it.next();
+                    it.remove();
+                    process(key);
+                }
+            } catch (final IOException | RuntimeException e) {
+                LOGGER.error("[" + thread.getName() + "]: Error in event loop", e);
+            }
+        }
+        runTasks();
+        try {
+            selector.close();
+        } catch (final IOException e) {
+            LOGGER.warn("[" + thread.getName() + "]: Error while closing selector", e);
+        }
+        LOGGER.debug("[{}]: Stop event loop", thread.getName());
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (final RuntimeException e) {
+                LOGGER.error("[" + thread.getName() + "]: Error while running task", e);
+            }
+        }
+    }
+
+    private static void process(final SelectionKey key) {
+        final VstChannel channel = (VstChannel) key.attachment();
+        try {
+            if (key.isReadable()) {
+                channel.onReadable();
+            }
+            if (key.isValid() && key.isWritable()) {
+                channel.onWritable();
+            }
+        } catch (final CancelledKeyException e) {
+            // channel closed concurrently
+        } catch (final Exception e) {
+            channel.onError(e);
+        }
+    }
+
+    void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+}
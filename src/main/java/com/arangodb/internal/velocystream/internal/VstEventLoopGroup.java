@@ -0,0 +1,102 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.ArangoDBException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Group of selector threads shared by all the non-blocking VST connections of a driver instance. Every connection is
+ * bound to one {@link VstEventLoop} of the group, which performs all its socket reads.
+ */
+public class VstEventLoopGroup implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VstEventLoopGroup.class);
+    private static final AtomicInteger GROUP_ID = new AtomicInteger();
+
+    private final VstEventLoop[] loops;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public VstEventLoopGroup(final int threads) {
+        super();
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be greater than 0");
+        }
+        final int groupId = GROUP_ID.incrementAndGet();
+        loops = new VstEventLoop[threads];
+        try {
+            for (int i = 0; i < threads; i++) {
+                loops[i] = new VstEventLoop("arangodb-vst-eventloop-" + groupId + "-" + i);
+            }
+        } catch (final IOException e) {
+            close();
+            throw new ArangoDBException(e);
+        }
+        final AtomicInteger schedulerId = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(threads, r -> {
+            final Thread t = new Thread(r, "arangodb-vst-scheduler-" + groupId + "-" + schedulerId.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    VstEventLoop next() {
+        return loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+    }
+
+    /**
+     * @return scheduler shared by the connections of this group for periodic tasks (e.g. keep-alive probes)
+     */
+    ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        LOGGER.debug("Close VST event loop group");
+        for (final VstEventLoop loop : loops) {
+            if (loop != null) {
+                loop.close();
+            }
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Outbound queue of a VST connection. Callers enqueue the buffers of their messages without blocking, a single writer
+ * task drains all the pending messages and sends them with one write and flush. The writer task is started at the
+ * latest {@code maxDelay} microseconds after the first pending message has been enqueued, or as soon as
+ * {@code maxBytes} are pending.
+ */
+class VstWriteQueue {
+
+    interface Writer {
+        void write(ByteBuffer[] buffers) throws IOException;
+    }
+
+    private final Queue<ByteBuffer[]> queue;
+    private final AtomicLong pendingBytes;
+    private final AtomicBoolean delayedWriteScheduled;
+    private final AtomicBoolean writeScheduled;
+    private final ScheduledExecutorService executor;
+    private final long maxDelay;
+    private final long maxBytes;
+    private final Writer writer;
+    private final Consumer<IOException> errorHandler;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    VstWriteQueue(final ScheduledExecutorService executor, final long maxDelay, final long maxBytes,
+                  final Writer writer, final Consumer<IOException> errorHandler) {
+        super();
+        this.executor = executor;
+        this.maxDelay = maxDelay;
+        this.maxBytes = maxBytes;
+        this.writer = writer;
+        this.errorHandler = errorHandler;
+        queue = new ConcurrentLinkedQueue<>();
+        pendingBytes = new AtomicLong();
+        delayedWriteScheduled = new AtomicBoolean();
+        writeScheduled = new AtomicBoolean();
+    }
+
+    void offer(final ByteBuffer[] buffers) throws IOException {
+        long size = 0;
+        for (final ByteBuffer buffer : buffers) {
+            size += buffer.remaining();
+        }
+        queue.add(buffers);
+        final long pending = pendingBytes.addAndGet(size);
+        try {
+            if (maxDelay <= 0 || pending >= maxBytes) {
+                if (writeScheduled.compareAndSet(false, true)) {
+                    executor.execute(this::drain);
+                }
+            } else if (delayedWriteScheduled.compareAndSet(false, true)) {
+                executor.schedule(this::drain, maxDelay, TimeUnit.MICROSECONDS);
+            }
+        } catch (final RejectedExecutionException e) {
+            throw new IOException("The connection is closed.", e);
+        }
+    }
+
+    private void drain() {
+        lock.lock();
+        try {
+            // reset the flags before polling, so that messages enqueued from now on schedule a new write
+            writeScheduled.set(false);
+            delayedWriteScheduled.set(false);
+            final List<ByteBuffer> buffers = new ArrayList<>();
+            long size = 0;
+            ByteBuffer[] message;
+            while ((message = queue.poll()) != null) {
+                for (final ByteBuffer buffer : message) {
+                    size += buffer.remaining();
+                }
+                buffers.addAll(Arrays.asList(message));
+            }
+            if (buffers.isEmpty()) {
+                return;
+            }
+            pendingBytes.addAndGet(-size);
+            try {
+                writer.write(buffers.toArray(new ByteBuffer[0]));
+            } catch (final IOException e) {
+                errorHandler.accept(e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -27,6 +27,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
 /**
  * @author Mark Vollmary
@@ -49,6 +50,14 @@ public class AqlQueryOptions implements Serializable {
     @Expose(serialize = false)
     private Boolean allowDirtyRead;
     private String streamTransactionId;
+    @Expose(serialize = false)
+    private Integer timeout;
+    @Expose(serialize = false)
+    private Boolean killOnTimeout;
+    @Expose(serialize = false)
+    private Integer prefetchBatches;
+    @Expose(serialize = false)
+    private transient Executor deserializationExecutor;
 
     public AqlQueryOptions() {
         super();
@@ -458,4 +467,65 @@ public class AqlQueryOptions implements Serializable {
         return this;
     }
 
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeout client side timeout in milliseconds for the creation of the cursor and for fetching each of its
+     *                batches, overriding the timeout configured in {@link com.arangodb.ArangoDB.Builder#timeout(Integer)}.
+     *                To limit the execution time of the query on the server, use {@link #maxRuntime(Double)}.
+     * @return options
+     */
+    public AqlQueryOptions timeout(final Integer timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public Boolean getKillOnTimeout() {
+        return killOnTimeout;
+    }
+
+    /**
+     * @param killOnTimeout Set to {@code true} to delete the cursor on the server when fetching one of its batches
+     *                      times out, see {@link #timeout(Integer)}.
+     * @return options
+     */
+    public AqlQueryOptions killOnTimeout(final Boolean killOnTimeout) {
+        this.killOnTimeout = killOnTimeout;
+        return this;
+    }
+
+    public Integer getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    /**
+     * @param prefetchBatches maximum number of batches of the cursor to fetch in the background, while the current batch
+     *                        is consumed. The batches are kept in memory until consumed. By default the next batch is
+     *                        fetched once the current batch is consumed.
+     * @return options
+     */
+    public AqlQueryOptions prefetchBatches(final Integer prefetchBatches) {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    public Executor getDeserializationExecutor() {
+        return deserializationExecutor;
+    }
+
+    /**
+     * @param deserializationExecutor executor on which the elements of every batch of the cursor are deserialized in
+     *                                parallel, preserving their order, as soon as the batch is received. By default the
+     *                                elements are deserialized one by one while iterating the cursor. Cursors
+     *                                created by a custom {@link com.arangodb.util.ArangoCursorInitializer} honor it
+     *                                only if they extend {@link com.arangodb.internal.cursor.ArangoCursorImpl}.
+     * @return options
+     */
+    public AqlQueryOptions deserializationExecutor(final Executor deserializationExecutor) {
+        this.deserializationExecutor = deserializationExecutor;
+        return this;
+    }
+
 }
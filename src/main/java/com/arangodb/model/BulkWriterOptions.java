@@ -0,0 +1,162 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+import com.arangodb.entity.ErrorEntity;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/**
+ * Options of a {@link com.arangodb.BulkWriter}.
+ */
+public class BulkWriterOptions {
+
+    private Integer batchSize;
+    private Integer batchBytes;
+    private Long lingerTime;
+    private Integer maxInFlightBatches;
+    private Integer maxRetries;
+    private Collection<Integer> retryableErrors;
+    private DocumentCreateOptions createOptions;
+    private BiConsumer<Object, ErrorEntity> errorHandler;
+
+    public BulkWriterOptions() {
+        super();
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents of a batch, {@code 1000} by default
+     * @return options
+     */
+    public BulkWriterOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * @param batchBytes maximum size in bytes of the serialized documents of a batch, {@code 4 MiB} by default. A
+     *                   single document larger than this is sent in a batch on its own.
+     * @return options
+     */
+    public BulkWriterOptions batchBytes(final Integer batchBytes) {
+        this.batchBytes = batchBytes;
+        return this;
+    }
+
+    public Long getLingerTime() {
+        return lingerTime;
+    }
+
+    /**
+     * @param lingerTime time in milliseconds after which a batch is sent even if it is not full, {@code 100} by
+     *                   default
+     * @return options
+     */
+    public BulkWriterOptions lingerTime(final Long lingerTime) {
+        this.lingerTime = lingerTime;
+        return this;
+    }
+
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    /**
+     * @param maxInFlightBatches maximum number of batches sent at the same time, {@code 4} by default. Adding documents
+     *                           blocks while this number of batches is in flight and the current batch is full.
+     * @return options
+     */
+    public BulkWriterOptions maxInFlightBatches(final Integer maxInFlightBatches) {
+        this.maxInFlightBatches = maxInFlightBatches;
+        return this;
+    }
+
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @param maxRetries maximum number of times the documents of a batch rejected with a retryable error are sent
+     *                   again, {@code 3} by default. A batch failing as a whole, e.g. on a connection failure or a
+     *                   timeout, is sent again only if every document has a key and the {@link #createOptions(
+     *                   DocumentCreateOptions) overwrite mode} is {@code ignore}, {@code replace} or {@code update},
+     *                   since the server could have already inserted it.
+     * @return options
+     */
+    public BulkWriterOptions maxRetries(final Integer maxRetries) {
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    public Collection<Integer> getRetryableErrors() {
+        return retryableErrors;
+    }
+
+    /**
+     * @param retryableErrors error numbers of the documents to send again, by default lock timeouts ({@code 18}),
+     *                        write-write conflicts ({@code 1200}), read-only servers ({@code 1004}) and changing shard
+     *                        leaders ({@code 1495}, {@code 1496})
+     * @return options
+     */
+    public BulkWriterOptions retryableErrors(final Collection<Integer> retryableErrors) {
+        this.retryableErrors = retryableErrors;
+        return this;
+    }
+
+    public DocumentCreateOptions getCreateOptions() {
+        return createOptions;
+    }
+
+    /**
+     * @param createOptions options of the insert requests of the batches, e.g. the
+     *                      {@link DocumentCreateOptions#overwriteMode(OverwriteMode) overwrite mode}. The {@code silent}
+     *                      option is not supported, since the result of every document is needed to retry it.
+     * @return options
+     */
+    public BulkWriterOptions createOptions(final DocumentCreateOptions createOptions) {
+        this.createOptions = createOptions;
+        return this;
+    }
+
+    public BiConsumer<Object, ErrorEntity> getErrorHandler() {
+        return errorHandler;
+    }
+
+    /**
+     * @param errorHandler handler of the documents rejected by the server with a non retryable error, or still failing
+     *                     after the maximum number of retries. It is called from the threads sending the batches.
+     * @return options
+     */
+    public BulkWriterOptions errorHandler(final BiConsumer<Object, ErrorEntity> errorHandler) {
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+}
@@ -36,6 +36,7 @@ public class DocumentReadOptions {
     @Expose(serialize = false)
     private Boolean allowDirtyRead;
     private String streamTransactionId;
+    private Integer timeout;
 
     public DocumentReadOptions() {
         super();
@@ -111,4 +112,18 @@ public class DocumentReadOptions {
         return this;
     }
 
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeout client side timeout of the request in milliseconds, overriding the timeout configured in
+     *                {@link com.arangodb.ArangoDB.Builder#timeout(Integer)}
+     * @return options
+     */
+    public DocumentReadOptions timeout(final Integer timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
 }
@@ -20,7 +20,9 @@
 
 package com.arangodb.velocystream;
 
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import com.arangodb.velocypack.annotations.Expose;
 
 import java.util.HashMap;
@@ -40,6 +42,10 @@ public class Request {
     private final Map<String, String> headerParam;
     @Expose(serialize = false)
     private VPackSlice body;
+    @Expose(serialize = false)
+    private Iterable<VPackSlice> arrayBody;
+    @Expose(serialize = false)
+    private Integer timeout;
 
     public Request(final String database, final RequestType requestType, final String path) {
         super();
@@ -103,12 +109,59 @@ public class Request {
         return this;
     }
 
+    /**
+     * @return body of the request, built from the {@link #getArrayBody() array body} on first access if the request
+     * has one, which is then discarded
+     */
     public VPackSlice getBody() {
+        if (body == null && arrayBody != null) {
+            final VPackBuilder builder = new VPackBuilder();
+            builder.add(ValueType.ARRAY);
+            for (final VPackSlice value : arrayBody) {
+                builder.add(value);
+            }
+            builder.close();
+            body = builder.slice();
+            arrayBody = null;
+        }
         return body;
     }
 
     public Request setBody(final VPackSlice body) {
         this.body = body;
+        arrayBody = null;
+        return this;
+    }
+
+    public Iterable<VPackSlice> getArrayBody() {
+        return arrayBody;
+    }
+
+    /**
+     * @param arrayBody elements of an array body, serialized one at a time. Protocols able to send a body of unknown
+     *                  length (HTTP with JSON content type) write the elements while iterating over them, so that the
+     *                  whole body is never held in memory, the other ones build the array body upfront. The elements
+     *                  are iterated again if the request is retried.
+     * @return request
+     */
+    public Request setArrayBody(final Iterable<VPackSlice> arrayBody) {
+        this.arrayBody = arrayBody;
+        body = null;
+        return this;
+    }
+
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeout client side timeout of the request in milliseconds, overriding the timeout of the connection.
+     *                When the timeout expires the request fails with a {@link java.util.concurrent.TimeoutException}
+     *                and its response is discarded.
+     * @return request
+     */
+    public Request setTimeout(final Integer timeout) {
+        this.timeout = timeout;
         return this;
     }
 
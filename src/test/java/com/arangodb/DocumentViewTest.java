@@ -0,0 +1,100 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import com.arangodb.entity.DocumentView;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class DocumentViewTest {
+
+    private static VPackSlice document(final String key, final long age, final boolean nameFirst) {
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.OBJECT);
+        if (nameFirst) {
+            builder.add("name", "name-" + key);
+        }
+        builder.add("_key", key)
+                .add("age", age)
+                .add("score", 1.5)
+                .add("active", true)
+                .add("nothing", ValueType.NULL)
+                .add("address", ValueType.OBJECT)
+                .add("city", "Cologne")
+                .add("zip", 50667)
+                .close();
+        if (!nameFirst) {
+            builder.add("name", "name-" + key);
+        }
+        return builder.close().slice();
+    }
+
+    @Test
+    public void typedAccessors() {
+        final DocumentView view = new DocumentView(document("1", 42, true));
+        assertThat(view.getKey(), is("1"));
+        assertThat(view.getString("name"), is("name-1"));
+        assertThat(view.getLong("age"), is(42L));
+        assertThat(view.getDouble("score"), is(1.5));
+        assertThat(view.getBoolean("active"), is(true));
+        assertThat(view.getString("nothing"), is(nullValue()));
+        assertThat(view.getString("missing"), is(nullValue()));
+        assertThat(view.contains("nothing"), is(true));
+        assertThat(view.contains("missing"), is(false));
+    }
+
+    @Test
+    public void nestedPath() {
+        final DocumentView view = new DocumentView(document("1", 42, true));
+        assertThat(view.getString("address", "city"), is("Cologne"));
+        assertThat(view.getLong("address", "zip"), is(50667L));
+        assertThat(view.getView("address").getString("city"), is("Cologne"));
+        assertThat(view.contains("name", "city"), is(false));
+        assertThat(view.getView("missing"), is(nullValue()));
+    }
+
+    @Test
+    public void sharedAttributePositions() {
+        final DocumentView first = new DocumentView(document("1", 1, true));
+        assertThat(first.getString("name"), is("name-1"));
+        assertThat(first.getString("address", "city"), is("Cologne"));
+        // same layout, read through the cached positions
+        final DocumentView second = first.of(document("2", 2, true));
+        assertThat(second.getString("name"), is("name-2"));
+        assertThat(second.getString("address", "city"), is("Cologne"));
+        // different layout, the positions are searched again
+        final DocumentView third = second.of(document("3", 3, false));
+        assertThat(third.getString("name"), is("name-3"));
+        assertThat(third.getLong("age"), is(3L));
+        assertThat(first.getString("name"), is("name-1"));
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void wrongType() {
+        new DocumentView(document("1", 42, true)).getLong("name");
+    }
+
+}
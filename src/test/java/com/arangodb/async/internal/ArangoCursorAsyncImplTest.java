@@ -0,0 +1,92 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.async.ArangoCursorAsync;
+import com.arangodb.async.ArangoDBAsync;
+import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.internal.cursor.FakeCursor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class ArangoCursorAsyncImplTest {
+
+    private static final InternalArangoDatabase<?, ?> db =
+            (InternalArangoDatabase<?, ?>) new ArangoDBAsync.Builder().build().db();
+
+    private static ArangoCursorAsync<Integer> cursor(final FakeCursor fake, final boolean async) {
+        return new ArangoCursorAsyncImpl<>(db, fake.nonBlocking(async), Integer.class, fake.first());
+    }
+
+    @Test
+    public void nextBatch() throws ExecutionException, InterruptedException {
+        final FakeCursor fake = new FakeCursor(3, 2);
+        final ArangoCursorAsync<Integer> cursor = cursor(fake, true);
+        assertThat(cursor.next(), is(0));
+        assertThat(cursor.nextBatch().get(), contains(1));
+        assertThat(cursor.nextBatch().get(), contains(2, 3));
+        assertThat(cursor.nextBatch().get(), contains(4, 5));
+        assertThat(cursor.hasNext(), is(false));
+        assertThat(cursor.nextBatch().get(), is(empty()));
+        assertThat(fake.fetched.get(), is(2));
+    }
+
+    @Test
+    public void forEachBatchAsync() throws ExecutionException, InterruptedException {
+        for (final boolean async : new boolean[]{false, true}) {
+            final FakeCursor fake = new FakeCursor(10_000, 1);
+            final List<Integer> elements = new ArrayList<>();
+            cursor(fake, async).forEachBatchAsync(elements::addAll).get();
+            assertThat(elements.size(), is(10_000));
+            assertThat(elements.get(9_999), is(9_999));
+        }
+    }
+
+    @Test
+    public void forEachBatchAsyncFailure() throws InterruptedException {
+        final FakeCursor fake = new FakeCursor(3, 1).failAt(1);
+        try {
+            cursor(fake, true).forEachBatchAsync(batch -> {
+            }).get();
+            fail();
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(ArangoDBException.class)));
+        }
+    }
+
+    @Test
+    public void closeAsync() throws ExecutionException, InterruptedException {
+        final FakeCursor fake = new FakeCursor(3, 1);
+        final ArangoCursorAsync<Integer> cursor = cursor(fake, true);
+        cursor.nextBatch().get();
+        cursor.closeAsync().get();
+        assertThat(fake.closed, contains(FakeCursor.ID));
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.internal.net.HostHandle;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+public class ArangoExecutorAsyncTest {
+
+    private ExecutorService responder;
+    private ExecutorService deserializer;
+    private CompletableFuture<Response> response;
+    private ArangoExecutorAsync executor;
+
+    @Before
+    public void setUp() {
+        responder = Executors.newSingleThreadExecutor(r -> new Thread(r, "responder"));
+        deserializer = Executors.newSingleThreadExecutor(r -> new Thread(r, "deserializer"));
+        response = new CompletableFuture<>();
+        executor = new ArangoExecutorAsync(null, null, null, null, deserializer) {
+            @Override
+            protected CompletableFuture<Response> send(final Request request, final HostHandle hostHandle) {
+                return response;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        responder.shutdown();
+        deserializer.shutdown();
+    }
+
+    private CompletableFuture<String> execute(final AtomicReference<String> thread) {
+        return executor.<Response>execute(new Request("_system", RequestType.GET, "/_api/version"), r -> r)
+                .handle((r, e) -> {
+                    thread.set(Thread.currentThread().getName());
+                    if (e != null) {
+                        throw (RuntimeException) e;
+                    }
+                    return "ok";
+                });
+    }
+
+    @Test
+    public void responseCompletedOnExecutor() throws Exception {
+        final AtomicReference<String> thread = new AtomicReference<>();
+        final CompletableFuture<String> result = execute(thread);
+        responder.execute(() -> response.complete(new Response()));
+        assertThat(result.get(5, TimeUnit.SECONDS), is("ok"));
+        assertThat(thread.get(), is("deserializer"));
+    }
+
+    @Test
+    public void failureCompletedOnExecutor() throws Exception {
+        final AtomicReference<String> thread = new AtomicReference<>();
+        final CompletableFuture<String> result = execute(thread);
+        responder.execute(() -> response.completeExceptionally(new TimeoutException()));
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(TimeoutException.class));
+        }
+        assertThat(thread.get(), is("deserializer"));
+    }
+
+}
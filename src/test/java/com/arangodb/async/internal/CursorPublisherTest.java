@@ -0,0 +1,184 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.async.ArangoCursorAsync;
+import com.arangodb.async.ArangoFlow;
+import com.arangodb.async.ArangoDBAsync;
+import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.internal.cursor.FakeCursor;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class CursorPublisherTest {
+
+    private static final InternalArangoDatabase<?, ?> db =
+            (InternalArangoDatabase<?, ?>) new ArangoDBAsync.Builder().build().db();
+
+    private static class TestSubscriber implements ArangoFlow.Subscriber<Integer> {
+        private final List<Integer> elements = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final CompletableFuture<ArangoFlow.Subscription> subscription = new CompletableFuture<>();
+
+        @Override
+        public void onSubscribe(final ArangoFlow.Subscription subscription) {
+            this.subscription.complete(subscription);
+        }
+
+        @Override
+        public void onNext(final Integer item) {
+            elements.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+
+        void request(final long n) {
+            subscription.join().request(n);
+        }
+    }
+
+    private static void await(final CompletableFuture<?> future)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        future.get(10, TimeUnit.SECONDS);
+    }
+
+    private static void awaitElements(final TestSubscriber subscriber, final int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (subscriber.elements.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static CursorPublisher<Integer> publisher(final FakeCursor fake, final AtomicInteger queries) {
+        return new CursorPublisher<>(() -> {
+            queries.incrementAndGet();
+            final ArangoCursorAsync<Integer> cursor = new ArangoCursorAsyncImpl<>(db, fake.nonBlocking(true),
+                    Integer.class, fake.first());
+            return CompletableFuture.supplyAsync(() -> cursor);
+        });
+    }
+
+    @Test
+    public void demandDrivenFetch() throws Exception {
+        final FakeCursor fake = new FakeCursor(3, 2);
+        final AtomicInteger queries = new AtomicInteger();
+        final TestSubscriber subscriber = new TestSubscriber();
+        publisher(fake, queries).subscribe(subscriber);
+        assertThat(queries.get(), is(0));
+
+        subscriber.request(1);
+        awaitElements(subscriber, 1);
+        assertThat(subscriber.elements, contains(0));
+        assertThat(fake.fetched.get(), is(0));
+
+        subscriber.request(2);
+        awaitElements(subscriber, 3);
+        assertThat(subscriber.elements, contains(0, 1, 2));
+        assertThat(fake.fetched.get(), is(1));
+
+        subscriber.request(Long.MAX_VALUE);
+        await(subscriber.done);
+        assertThat(subscriber.elements, contains(0, 1, 2, 3, 4, 5));
+        assertThat(fake.fetched.get(), is(2));
+        assertThat(fake.closed, is(empty()));
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        final FakeCursor fake = new FakeCursor(3, 2);
+        final TestSubscriber subscriber = new TestSubscriber();
+        publisher(fake, new AtomicInteger()).subscribe(subscriber);
+        subscriber.request(3);
+        awaitElements(subscriber, 3);
+        subscriber.subscription.join().cancel();
+        subscriber.request(10);
+        Thread.sleep(100);
+        assertThat(subscriber.elements, contains(0, 1, 2));
+        assertThat(fake.closed, contains(FakeCursor.ID));
+        assertThat(subscriber.done.isDone(), is(false));
+    }
+
+    @Test
+    public void nonPositiveRequest() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber();
+        publisher(new FakeCursor(3, 2), new AtomicInteger()).subscribe(subscriber);
+        subscriber.request(0);
+        try {
+            await(subscriber.done);
+            fail();
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(IllegalArgumentException.class)));
+        }
+    }
+
+    @Test
+    public void nullElement() throws Exception {
+        final FakeCursor fake = new FakeCursor(3, 2, i -> i == 3 ? null : i);
+        final TestSubscriber subscriber = new TestSubscriber();
+        publisher(fake, new AtomicInteger()).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+        try {
+            await(subscriber.done);
+            fail();
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(NullPointerException.class)));
+        }
+        assertThat(subscriber.elements, contains(0, 1));
+        // the cursor is not exhausted yet
+        assertThat(fake.closed, contains(FakeCursor.ID));
+    }
+
+    @Test
+    public void queryFailure() throws Exception {
+        final CompletableFuture<ArangoCursorAsync<Integer>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new ArangoDBException("query failed"));
+        final TestSubscriber subscriber = new TestSubscriber();
+        new CursorPublisher<>(() -> failed).subscribe(subscriber);
+        subscriber.request(1);
+        try {
+            await(subscriber.done);
+            fail();
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(ArangoDBException.class)));
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.model.DocumentImportOptions;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocystream.Request;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ArrayBodyTest {
+
+    private static final ArangoCollectionImpl collection =
+            (ArangoCollectionImpl) new ArangoDB.Builder().build().db().collection("test");
+
+    @Test
+    public void serializedWhileIterated() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final Stream<BaseDocument> values = Stream.of("a", "b", "c").map(key -> {
+            pulled.incrementAndGet();
+            return new BaseDocument(key);
+        });
+        final Request request = collection.importDocumentsRequest(values, new DocumentImportOptions());
+        assertThat(pulled.get(), is(0));
+
+        final Iterator<VPackSlice> iterator = request.getArrayBody().iterator();
+        final List<String> keys = new ArrayList<>();
+        while (iterator.hasNext()) {
+            keys.add(iterator.next().get("_key").getAsString());
+            assertThat(pulled.get(), is(keys.size()));
+        }
+        assertThat(keys, is(Arrays.asList("a", "b", "c")));
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void streamConsumedOnce() {
+        final Request request = collection.importDocumentsRequest(Stream.of(new BaseDocument("a")),
+                new DocumentImportOptions());
+        request.getArrayBody().iterator();
+        request.getArrayBody().iterator();
+    }
+
+    @Test
+    public void bodyBuiltFromElements() {
+        final Request request = collection.importDocumentsRequest(
+                Arrays.asList(new BaseDocument("a"), null, "{\"_key\":\"c\"}"), new DocumentImportOptions());
+        final VPackSlice body = request.getBody();
+        assertThat(request.getArrayBody(), is(nullValue()));
+        assertThat(body.isArray(), is(true));
+        assertThat(body.getLength(), is(3));
+        assertThat(body.get(0).get("_key").getAsString(), is("a"));
+        assertThat(body.get(1).isNull(), is(true));
+        assertThat(body.get(2).get("_key").getAsString(), is("c"));
+    }
+
+}
@@ -0,0 +1,322 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
+import com.arangodb.entity.*;
+import com.arangodb.model.BulkWriterOptions;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.OverwriteMode;
+import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class BulkWriterImplTest {
+
+    private static final ArangoCollectionImpl collection =
+            (ArangoCollectionImpl) new ArangoDB.Builder().build().db().collection("test");
+
+    private static class FakeBulkWriter extends BulkWriterImpl<BaseDocument> {
+        private final BiFunction<List<BaseDocument>, Integer, Object> results;
+        private final List<List<BaseDocument>> batches = new CopyOnWriteArrayList<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        /**
+         * @param results result of every document of a batch given its index, either {@code null} for success, an
+         *                {@link ErrorEntity} or an {@link ArangoDBException} failing the whole batch
+         */
+        FakeBulkWriter(final BulkWriterOptions options,
+                       final BiFunction<List<BaseDocument>, Integer, Object> results) {
+            super(collection, options);
+            this.results = results;
+        }
+
+        @Override
+        protected MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> insert(
+                final List<BaseDocument> documents, final List<VPackSlice> values) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+                final Collection<Object> documentsAndErrors = new ArrayList<>();
+                for (int i = 0; i < documents.size(); i++) {
+                    assertThat(values.get(i).get("_key").getAsString(), is(documents.get(i).getKey()));
+                    final Object result = results.apply(documents, i);
+                    if (result instanceof ArangoDBException) {
+                        throw (ArangoDBException) result;
+                    }
+                    documentsAndErrors.add(result != null ? result : new DocumentCreateEntity<>());
+                }
+                batches.add(new ArrayList<>(documents));
+                final MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> entity = new MultiDocumentEntity<>();
+                entity.setDocumentsAndErrors(documentsAndErrors);
+                return entity;
+            } catch (final InterruptedException e) {
+                throw new ArangoDBException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private int written() {
+            return batches.stream().mapToInt(List::size).sum();
+        }
+    }
+
+    private static ErrorEntity error(final int errorNum) {
+        return collection.util().deserialize(new VPackParser.Builder().build().fromJson(
+                "{\"error\":true,\"code\":409,\"errorNum\":" + errorNum + ",\"errorMessage\":\"test\"}"),
+                ErrorEntity.class);
+    }
+
+    private static void addAll(final BulkWriter<BaseDocument> writer, final int threads, final int perThread) {
+        final ExecutorService es = Executors.newFixedThreadPool(threads);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            futures.add(es.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    writer.add(new BaseDocument(thread + "-" + i));
+                }
+            }));
+        }
+        futures.forEach(f -> {
+            try {
+                f.get();
+            } catch (final InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        es.shutdown();
+    }
+
+    @Test
+    public void batchesByCount() {
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().batchSize(10).lingerTime(60_000L)
+                .maxInFlightBatches(2), (docs, i) -> null);
+        addAll(writer, 5, 25);
+        writer.close();
+
+        assertThat(writer.written(), is(125));
+        assertThat(writer.batches.size(), is(13));
+        writer.batches.forEach(batch -> assertThat(batch.size(), is(lessThanOrEqualTo(10))));
+        assertThat(writer.maxInFlight.get(), is(lessThanOrEqualTo(2)));
+        final BulkWriterStats stats = writer.getStats();
+        assertThat(stats.getDocuments(), is(125L));
+        assertThat(stats.getBatches(), is(13L));
+        assertThat(stats.getFailedDocuments(), is(0L));
+        assertThat(stats.getBytes(), is(greaterThan(0L)));
+    }
+
+    @Test
+    public void batchesBySize() {
+        final int size = collection.serializeElement(new BaseDocument("0-0"), false).getByteSize();
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().batchBytes(size * 3)
+                .lingerTime(60_000L), (docs, i) -> null);
+        addAll(writer, 1, 9);
+        writer.close();
+
+        assertThat(writer.batches.size(), is(3));
+        writer.batches.forEach(batch -> assertThat(batch.size(), is(3)));
+    }
+
+    @Test
+    public void lingerTime() throws InterruptedException {
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().lingerTime(10L), (docs, i) -> null);
+        writer.add(new BaseDocument("a"));
+        writer.add(new BaseDocument("b"));
+        for (int i = 0; i < 200 && writer.written() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(writer.written(), is(2));
+        writer.close();
+    }
+
+    @Test
+    public void retryableErrors() {
+        final Set<String> rejected = ConcurrentHashMap.newKeySet();
+        final List<Object> handled = new CopyOnWriteArrayList<>();
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().batchSize(4)
+                .errorHandler((doc, error) -> handled.add(doc)),
+                (docs, i) -> docs.get(i).getKey().endsWith("1") && rejected.add(docs.get(i).getKey())
+                        ? error(1200) : null);
+        addAll(writer, 1, 8);
+        writer.close();
+
+        assertThat(handled, is(empty()));
+        assertThat(rejected, contains("0-1"));
+        assertThat(writer.written(), is(9));
+        final BulkWriterStats stats = writer.getStats();
+        assertThat(stats.getDocuments(), is(8L));
+        assertThat(stats.getRetriedDocuments(), is(1L));
+        assertThat(stats.getBatches(), is(3L));
+    }
+
+    @Test
+    public void nonRetryableErrors() {
+        final List<Object> handled = new CopyOnWriteArrayList<>();
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().batchSize(4)
+                .errorHandler((doc, error) -> handled.add(error.getErrorNum())),
+                (docs, i) -> i == 0 ? error(1210) : null);
+        addAll(writer, 1, 8);
+        writer.close();
+
+        assertThat(handled, contains(1210, 1210));
+        assertThat(writer.getStats().getDocuments(), is(6L));
+        assertThat(writer.getStats().getFailedDocuments(), is(2L));
+    }
+
+    @Test
+    public void nonRetryableErrorsWithoutHandler() {
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().createOptions(
+                new DocumentCreateOptions().overwriteMode(OverwriteMode.conflict)), (docs, i) -> error(1210));
+        writer.add(new BaseDocument("a"));
+        try {
+            writer.flush();
+            fail();
+        } catch (final ArangoDBException e) {
+            assertThat(e.getErrorNum(), is(1210));
+        }
+        writer.flush();
+        writer.close();
+    }
+
+    @Test
+    public void failedBatchRetried() {
+        final AtomicInteger failures = new AtomicInteger();
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().maxRetries(1).createOptions(
+                new DocumentCreateOptions().overwriteMode(OverwriteMode.replace)),
+                (docs, i) -> failures.getAndIncrement() == 0 ? new ArangoDBException("connection failed") : null);
+        writer.add(new BaseDocument("a"));
+        writer.add(new BaseDocument("b"));
+        writer.close();
+
+        assertThat(writer.written(), is(2));
+        assertThat(writer.getStats().getDocuments(), is(2L));
+        assertThat(writer.getStats().getRetriedDocuments(), is(2L));
+    }
+
+    @Test
+    public void failedBatchNotRetriedWithoutOverwrite() {
+        final AtomicInteger failures = new AtomicInteger();
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().maxRetries(1),
+                (docs, i) -> failures.getAndIncrement() == 0 ? new ArangoDBException("connection failed") : null);
+        writer.add(new BaseDocument("a"));
+        writer.add(new BaseDocument("b"));
+        try {
+            writer.close();
+            fail();
+        } catch (final ArangoDBException e) {
+            assertThat(e.getMessage(), is("connection failed"));
+        }
+        assertThat(writer.written(), is(0));
+        assertThat(writer.getStats().getFailedDocuments(), is(2L));
+        assertThat(writer.getStats().getRetriedDocuments(), is(0L));
+    }
+
+    @Test
+    public void failedBatchNotRetriedWithoutKeys() {
+        final AtomicInteger failures = new AtomicInteger();
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().maxRetries(1).createOptions(
+                new DocumentCreateOptions().overwriteMode(OverwriteMode.replace)),
+                (docs, i) -> failures.getAndIncrement() == 0 ? new ArangoDBException("connection failed") : null);
+        writer.add(new BaseDocument("a"));
+        writer.add(new BaseDocument());
+        try {
+            writer.close();
+            fail();
+        } catch (final ArangoDBException e) {
+            assertThat(e.getMessage(), is("connection failed"));
+        }
+        assertThat(writer.written(), is(0));
+    }
+
+    @Test
+    public void failedBatchNotRetriedAfterMaxRetries() {
+        final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().maxRetries(0),
+                (docs, i) -> new ArangoDBException("connection failed"));
+        writer.add(new BaseDocument("a"));
+        try {
+            writer.close();
+            fail();
+        } catch (final ArangoDBException e) {
+            assertThat(e.getMessage(), is("connection failed"));
+        }
+        assertThat(writer.getStats().getFailedDocuments(), is(1L));
+    }
+
+    @Test
+    public void addConcurrentlyWithClose() throws Exception {
+        for (int run = 0; run < 20; run++) {
+            final FakeBulkWriter writer = new FakeBulkWriter(new BulkWriterOptions().batchSize(3)
+                    .lingerTime(60_000L), (docs, i) -> null);
+            final AtomicInteger added = new AtomicInteger();
+            final ExecutorService es = Executors.newFixedThreadPool(4);
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int thread = t;
+                futures.add(es.submit(() -> {
+                    for (int i = 0; ; i++) {
+                        try {
+                            writer.add(new BaseDocument(thread + "-" + i));
+                        } catch (final ArangoDBException e) {
+                            return;
+                        }
+                        added.incrementAndGet();
+                    }
+                }));
+            }
+            Thread.sleep(5);
+            writer.close();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            es.shutdown();
+            // every accepted document has been written before close() returned
+            assertThat(writer.written(), is(added.get()));
+        }
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void addAfterClose() {
+        final FakeBulkWriter writer = new FakeBulkWriter(null, (docs, i) -> null);
+        writer.close();
+        writer.add(new BaseDocument("a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void silentNotSupported() {
+        new FakeBulkWriter(new BulkWriterOptions().createOptions(new DocumentCreateOptions().silent(true)),
+                (docs, i) -> null);
+    }
+
+}
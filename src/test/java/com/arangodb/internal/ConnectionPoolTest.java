@@ -0,0 +1,194 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.Protocol;
+import com.arangodb.entity.ConnectionPoolStats;
+import com.arangodb.entity.ConnectionSelectionStrategy;
+import com.arangodb.internal.http.HttpConnectionFactory;
+import com.arangodb.internal.net.*;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ConnectionPoolTest {
+
+    private static class FakeConnection implements Connection {
+        private int inFlightRequests;
+        private boolean open = true;
+        private double latency;
+
+        @Override
+        public int getInFlightRequests() {
+            return inFlightRequests;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public double getLatency() {
+            return latency;
+        }
+
+        @Override
+        public ConnectionPoolStats getStats() {
+            final boolean leased = open && inFlightRequests > 0;
+            return new ConnectionPoolStats("127.0.0.1:8529", leased ? 1 : 0, open && !leased ? 1 : 0, 0, 1);
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+
+    private static ConnectionPool pool(final ConnectionSelectionStrategy strategy, final int maxConnections) {
+        return new ConnectionPoolImpl(new HostDescription("127.0.0.1", 8529), maxConnections,
+                host -> new FakeConnection(), strategy);
+    }
+
+    private static FakeConnection[] fill(final ConnectionPool pool, final int maxConnections) {
+        final FakeConnection[] connections = new FakeConnection[maxConnections];
+        for (int i = 0; i < maxConnections; i++) {
+            connections[i] = (FakeConnection) pool.connection();
+        }
+        return connections;
+    }
+
+    @Test
+    public void createUpToMaxConnections() {
+        final ConnectionPool pool = pool(ConnectionSelectionStrategy.ROUND_ROBIN, 3);
+        final Set<Connection> connections = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            connections.add(pool.connection());
+        }
+        assertThat(connections.size(), is(3));
+    }
+
+    @Test
+    public void roundRobin() {
+        final ConnectionPool pool = pool(ConnectionSelectionStrategy.ROUND_ROBIN, 3);
+        final FakeConnection[] connections = fill(pool, 3);
+        connections[0].inFlightRequests = 10;
+        final Set<Connection> selected = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            selected.add(pool.connection());
+        }
+        assertThat(selected.size(), is(3));
+    }
+
+    @Test
+    public void leastInFlight() {
+        final ConnectionPool pool = pool(ConnectionSelectionStrategy.LEAST_IN_FLIGHT, 3);
+        final FakeConnection[] connections = fill(pool, 3);
+        connections[0].inFlightRequests = 5;
+        connections[1].inFlightRequests = 1;
+        connections[2].inFlightRequests = 3;
+        for (int i = 0; i < 10; i++) {
+            assertThat(pool.connection(), is(sameInstance(connections[1])));
+        }
+    }
+
+    @Test
+    public void leastInFlightPreferOpen() {
+        final ConnectionPool pool = pool(ConnectionSelectionStrategy.LEAST_IN_FLIGHT, 2);
+        final FakeConnection[] connections = fill(pool, 2);
+        connections[0].open = false;
+        for (int i = 0; i < 10; i++) {
+            assertThat(pool.connection(), is(sameInstance(connections[1])));
+        }
+        // a busy connection is worse than a closed one, which is reopened on use
+        connections[1].inFlightRequests = 1;
+        assertThat(pool.connection(), is(sameInstance(connections[0])));
+    }
+
+    @Test
+    public void powerOfTwoChoices() {
+        final ConnectionPool pool = pool(ConnectionSelectionStrategy.POWER_OF_TWO_CHOICES, 2);
+        final FakeConnection[] connections = fill(pool, 2);
+        connections[0].inFlightRequests = 100;
+        for (int i = 0; i < 10; i++) {
+            assertThat(pool.connection(), is(sameInstance(connections[1])));
+        }
+    }
+
+    @Test
+    public void aggregateLoad() {
+        final ConnectionPool pool = pool(ConnectionSelectionStrategy.ROUND_ROBIN, 3);
+        final FakeConnection[] connections = fill(pool, 3);
+        assertThat(pool.getLatency(), is(0.0));
+        connections[0].inFlightRequests = 2;
+        connections[0].latency = 100;
+        connections[2].inFlightRequests = 1;
+        connections[2].latency = 300;
+        assertThat(pool.getInFlightRequests(), is(3));
+        // connections without measured responses are ignored
+        assertThat(pool.getLatency(), is(200.0));
+    }
+
+    @Test
+    public void recreateConnectionsAfterClose() throws Exception {
+        final ConnectionPool pool = pool(ConnectionSelectionStrategy.LEAST_IN_FLIGHT, 1);
+        final Connection connection = pool.connection();
+        pool.close();
+        assertThat(connection.isOpen(), is(false));
+        assertThat(pool.connection(), is(not(sameInstance(connection))));
+    }
+
+    @Test
+    public void stats() {
+        final ConnectionPool pool = pool(ConnectionSelectionStrategy.ROUND_ROBIN, 4);
+        final FakeConnection[] connections = fill(pool, 3);
+        connections[0].inFlightRequests = 2;
+        connections[1].open = false;
+        final ConnectionPoolStats stats = pool.getStats();
+        assertThat(stats.getHost(), is("127.0.0.1:8529"));
+        assertThat(stats.getLeased(), is(1));
+        assertThat(stats.getAvailable(), is(1));
+        assertThat(stats.getPending(), is(0));
+        assertThat(stats.getMax(), is(4));
+    }
+
+    @Test
+    public void httpConnectionSharedByRequests() throws Exception {
+        final ConnectionPool pool = new ConnectionPoolImpl(new HostDescription("127.0.0.1", 8529), 5,
+                new HttpConnectionFactory(null, null, null, false, null, null, null, Protocol.HTTP_JSON, null, null,
+                        null, 5), ConnectionSelectionStrategy.ROUND_ROBIN);
+        final Connection connection = pool.connection();
+        for (int i = 0; i < 10; i++) {
+            assertThat(pool.connection(), is(sameInstance(connection)));
+        }
+        assertThat(connection.getStats().getMax(), is(5));
+        final ConnectionPoolStats stats = pool.getStats();
+        assertThat(stats.getLeased(), is(0));
+        assertThat(stats.getAvailable(), is(0));
+        assertThat(stats.getMax(), is(5));
+        pool.close();
+    }
+
+}
@@ -26,6 +26,8 @@ import org.junit.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -37,6 +39,17 @@ import static org.hamcrest.Matchers.nullValue;
  */
 public class DocumentCacheTest {
 
+    private static class Parent {
+        @DocumentField(DocumentField.Type.KEY)
+        String key;
+    }
+
+    private static class Child extends Parent {
+        @DocumentField(DocumentField.Type.REV)
+        private String rev;
+        private String id;
+    }
+
     @Test
     public void setValues() {
         final DocumentCache cache = new DocumentCache();
@@ -70,4 +83,42 @@ public class DocumentCacheTest {
 
         assertThat(map.isEmpty(), is(true));
     }
+
+    @Test
+    public void setValuesInherited() {
+        final DocumentCache cache = new DocumentCache();
+        final Child doc = new Child();
+        cache.setValues(doc, "testId", "testKey", "testRev");
+
+        assertThat(doc.id, is(nullValue()));
+        assertThat(doc.key, is("testKey"));
+        assertThat(doc.rev, is("testRev"));
+    }
+
+    @Test
+    public void setRevision() {
+        final DocumentCache cache = new DocumentCache();
+        final BaseDocument doc = new BaseDocument("testKey");
+        cache.setRevision(doc, "testRev");
+
+        assertThat(doc.getKey(), is("testKey"));
+        assertThat(doc.getRevision(), is("testRev"));
+    }
+
+    @Test
+    public void setValuesConcurrently() {
+        final DocumentCache cache = new DocumentCache();
+        final CompletableFuture<?>[] futures = IntStream.range(0, 100)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    final Child child = new Child();
+                    final BaseDocument doc = new BaseDocument();
+                    cache.setValues(child, null, "key" + i, "rev" + i);
+                    cache.setValues(doc, "id" + i, "key" + i, "rev" + i);
+                    assertThat(child.key, is("key" + i));
+                    assertThat(child.rev, is("rev" + i));
+                    assertThat(doc.getId(), is("id" + i));
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
 }
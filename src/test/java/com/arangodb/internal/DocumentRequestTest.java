@@ -0,0 +1,82 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBException;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentReadOptions;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class DocumentRequestTest {
+
+    private static ArangoCollectionImpl collection(final String name) {
+        return (ArangoCollectionImpl) new ArangoDB.Builder().build().db().collection(name);
+    }
+
+    @Test
+    public void documentPath() {
+        final ArangoCollectionImpl collection = collection("test");
+        final Request request = collection.getDocumentRequest("key-1", new DocumentReadOptions());
+        assertThat(request.getRequestType(), is(RequestType.GET));
+        assertThat(request.getRequest(), is("/_api/document/test/key-1"));
+        assertThat(collection.insertDocumentsRequest(new DocumentCreateOptions()).getRequest(),
+                is("/_api/document/test"));
+    }
+
+    @Test
+    public void encodedKey() {
+        final Request request = collection("test").getDocumentRequest("a b:c%(d)!~'*", new DocumentReadOptions());
+        assertThat(request.getRequest(), is("/_api/document/test/a%20b%3Ac%25(d)!~'*"));
+    }
+
+    @Test
+    public void renamedCollection() {
+        final ArangoCollectionImpl collection = collection("test");
+        collection.getDocumentRequest("key", new DocumentReadOptions());
+        collection.name = "renamed";
+        assertThat(collection.getDocumentRequest("key", new DocumentReadOptions()).getRequest(),
+                is("/_api/document/renamed/key"));
+    }
+
+    @Test
+    public void contextHeaders() {
+        final ArangoCollectionImpl collection = collection("test");
+        assertThat(collection.getDocumentRequest("key", new DocumentReadOptions()).getHeaderParam().isEmpty(),
+                is(true));
+        collection.context.putHeaderParam("x-test", "value");
+        final Request request = collection.getDocumentRequest("key", new DocumentReadOptions().ifMatch("rev"));
+        assertThat(request.getHeaderParam().get("x-test"), is("value"));
+        assertThat(request.getHeaderParam().get(ArangoRequestParam.IF_MATCH), is("rev"));
+        assertThat(collection.context.getHeaderParam().size(), is(1));
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void invalidKey() {
+        collection("test").getDocumentRequest("a/b", new DocumentReadOptions());
+    }
+
+}
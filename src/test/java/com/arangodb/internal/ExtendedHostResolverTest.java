@@ -0,0 +1,153 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.internal.net.*;
+import com.arangodb.internal.util.HostUtils;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ExtendedHostResolverTest {
+
+    private static final HostDescription HOST_0 = new HostDescription("127.0.0.1", 8529);
+    private static final HostDescription HOST_1 = new HostDescription("127.0.0.2", 8529);
+
+    private final CountDownLatch serverResponse = new CountDownLatch(1);
+    private final AtomicInteger requests = new AtomicInteger();
+    private ArangoSerialization util;
+    private Host initialHost;
+    private ExtendedHostResolver resolver;
+
+    @Before
+    public void setup() {
+        final ArangoDB arangoDB = new ArangoDB.Builder().build();
+        util = arangoDB.util();
+        initialHost = HostUtils.createHost(HOST_0, 1, host -> null, null);
+        resolver = new ExtendedHostResolver(new ArrayList<>(Collections.singletonList(initialHost)), 1, host -> null,
+                60_000, null);
+        final CommunicationProtocol protocol = new CommunicationProtocol() {
+            @Override
+            public Response execute(final Request request, final HostHandle hostHandle) {
+                requests.incrementAndGet();
+                try {
+                    serverResponse.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                final Response response = new Response();
+                response.setBody(new VPackBuilder().add(ValueType.OBJECT)
+                        .add("endpoints", ValueType.ARRAY)
+                        .add(ValueType.OBJECT).add("endpoint", "tcp://127.0.0.2:8529").close()
+                        .add(ValueType.OBJECT).add("endpoint", "tcp://127.0.0.1:8529").close()
+                        .close().close().slice());
+                return response;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        resolver.init(new ArangoExecutorSync(protocol, null, null), util);
+    }
+
+    @After
+    public void teardown() {
+        serverResponse.countDown();
+        resolver.close();
+    }
+
+    private static List<HostDescription> descriptions(final HostSet hosts) {
+        final List<HostDescription> descriptions = new ArrayList<>();
+        for (final Host host : hosts.getHostsList()) {
+            descriptions.add(host.getDescription());
+        }
+        return descriptions;
+    }
+
+    private HostSet awaitHosts(final int size) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        HostSet hosts = resolver.resolve(false, false);
+        while (hosts.getHostsList().size() != size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            hosts = resolver.resolve(false, false);
+        }
+        return hosts;
+    }
+
+    @Test
+    public void resolveWithoutWaitingForServer() throws InterruptedException {
+        final HostSet initial = resolver.resolve(true, false);
+        assertThat(descriptions(initial), contains(HOST_0));
+
+        // the server does not answer yet, the current hosts are returned meanwhile
+        final HostSet current = resolver.resolve(false, false);
+        assertThat(current, is(sameInstance(initial)));
+        assertThat(resolver.resolve(false, false), is(sameInstance(initial)));
+
+        serverResponse.countDown();
+        final HostSet updated = awaitHosts(2);
+        assertThat(descriptions(updated), contains(HOST_1, HOST_0));
+        // known hosts are kept with their connections
+        assertThat(updated.getHostsList().get(1), is(sameInstance(initialHost)));
+        // the previous snapshot is left untouched
+        assertThat(descriptions(initial), contains(HOST_0));
+        assertThat(requests.get(), is(1));
+    }
+
+    @Test
+    public void refreshAfterFailure() throws InterruptedException {
+        serverResponse.countDown();
+        resolver.resolve(false, false);
+        awaitHosts(2);
+        assertThat(requests.get(), is(1));
+
+        // too early after the last refresh
+        resolver.refresh();
+        Thread.sleep(100);
+        assertThat(requests.get(), is(1));
+
+        Thread.sleep(1000);
+        resolver.refresh();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(requests.get(), is(2));
+    }
+
+}
@@ -54,6 +54,16 @@ public class HostHandlerTest {
 
         }
 
+        @Override
+        public void refresh() {
+
+        }
+
+        @Override
+        public void close() {
+
+        }
+
     };
 
     private static final HostResolver MULTIPLE_HOSTS = new HostResolver() {
@@ -73,60 +83,95 @@ public class HostHandlerTest {
 
         }
 
+        @Override
+        public void refresh() {
+
+        }
+
+        @Override
+        public void close() {
+
+        }
+
     };
 
+    private static HostSelection selection() {
+        return new HostSelection(null, AccessType.WRITE);
+    }
+
     @Test
     public void fallbachHostHandlerSingleHost() {
         final HostHandler handler = new FallbackHostHandler(SINGLE_HOST);
-        assertThat(handler.get(null, null), is(HOST_0));
-        handler.fail();
-        assertThat(handler.get(null, null), is(HOST_0));
+        final HostSelection selection = selection();
+        assertThat(handler.get(selection), is(HOST_0));
+        handler.fail(selection);
+        assertThat(handler.get(selection), is(HOST_0));
     }
 
     @Test
     public void fallbackHostHandlerMultipleHosts() {
         final HostHandler handler = new FallbackHostHandler(MULTIPLE_HOSTS);
+        final HostSelection selection = selection();
         for (int i = 0; i < 3; i++) {
-            assertThat(handler.get(null, null), is(HOST_0));
-            handler.fail();
-            assertThat(handler.get(null, null), is(HOST_1));
-            handler.fail();
-            assertThat(handler.get(null, null), is(HOST_2));
+            assertThat(handler.get(selection), is(HOST_0));
+            handler.fail(selection);
+            assertThat(handler.get(selection), is(HOST_1));
+            handler.fail(selection);
+            assertThat(handler.get(selection), is(HOST_2));
             if (i < 2) {
-                handler.fail();
-                assertThat(handler.get(null, null), is(HOST_0));
+                handler.fail(selection);
+                assertThat(handler.get(selection), is(HOST_0));
             } else {
-                handler.fail();
+                handler.fail(selection);
                 try {
-                    handler.get(null, null);
+                    handler.get(selection);
                     fail();
                 } catch (ArangoDBException ignored) {
                 }
             }
         }
+        // the failed over host is kept for the following requests
+        assertThat(handler.get(selection()), is(HOST_0));
+    }
+
+    @Test
+    public void fallbackHostHandlerConcurrentFailures() {
+        final HostHandler handler = new FallbackHostHandler(MULTIPLE_HOSTS);
+        final HostSelection selection0 = selection();
+        final HostSelection selection1 = selection();
+        assertThat(handler.get(selection0), is(HOST_0));
+        assertThat(handler.get(selection1), is(HOST_0));
+        handler.fail(selection0);
+        handler.fail(selection1);
+        // both requests failed on the same host, move on only once
+        assertThat(handler.get(selection0), is(HOST_1));
+        assertThat(handler.get(selection1), is(HOST_1));
     }
 
     @Test
     public void randomHostHandlerSingleHost() {
         final HostHandler handler = new RandomHostHandler(SINGLE_HOST, new FallbackHostHandler(SINGLE_HOST));
-        assertThat(handler.get(null, null), is(HOST_0));
-        handler.fail();
-        assertThat(handler.get(null, null), is(HOST_0));
+        final HostSelection selection = selection();
+        assertThat(handler.get(selection), is(HOST_0));
+        handler.fail(selection);
+        assertThat(handler.get(selection), is(HOST_0));
     }
 
     @Test
     public void randomHostHandlerMultipeHosts() {
         final HostHandler handler = new RandomHostHandler(MULTIPLE_HOSTS, new FallbackHostHandler(MULTIPLE_HOSTS));
 
-        final Host pick0 = handler.get(null, null);
+        final HostSelection selection = selection();
+        final Host pick0 = handler.get(selection);
         assertThat(pick0, anyOf(is(HOST_0), is(HOST_1), is(HOST_2)));
-        handler.fail();
+        handler.fail(selection);
 
-        final Host pick1 = handler.get(null, null);
+        final Host pick1 = handler.get(selection);
         assertThat(pick1, anyOf(is(HOST_0), is(HOST_1), is(HOST_2)));
-        handler.success();
+        assertThat(pick1, is(not(pick0)));
+        handler.success(selection);
 
-        final Host pick3 = handler.get(null, null);
+        final Host pick3 = handler.get(selection());
         assertThat(pick3, anyOf(is(HOST_0), is(HOST_1), is(HOST_2)));
         assertThat(pick3, is(pick1));
     }
@@ -134,24 +179,56 @@ public class HostHandlerTest {
     @Test
     public void roundRobinHostHandlerSingleHost() {
         final HostHandler handler = new RoundRobinHostHandler(SINGLE_HOST);
-        assertThat(handler.get(null, null), is(HOST_0));
-        handler.fail();
-        assertThat(handler.get(null, null), is(HOST_0));
+        final HostSelection selection = selection();
+        assertThat(handler.get(selection), is(HOST_0));
+        handler.fail(selection);
+        assertThat(handler.get(selection), is(HOST_0));
     }
 
     @Test
     public void roundRobinHostHandlerMultipleHosts() {
         final HostHandler handler = new RoundRobinHostHandler(MULTIPLE_HOSTS);
-        final Host pick0 = handler.get(null, null);
+        final Host pick0 = handler.get(selection());
         assertThat(pick0, anyOf(is(HOST_0), is(HOST_1), is(HOST_2)));
-        final Host pick1 = handler.get(null, null);
+        final Host pick1 = handler.get(selection());
         assertThat(pick1, anyOf(is(HOST_0), is(HOST_1), is(HOST_2)));
         assertThat(pick1, is(not(pick0)));
-        final Host pick2 = handler.get(null, null);
+        final Host pick2 = handler.get(selection());
         assertThat(pick2, anyOf(is(HOST_0), is(HOST_1), is(HOST_2)));
         assertThat(pick2, not(anyOf(is(pick0), is(pick1))));
-        final Host pick4 = handler.get(null, null);
+        final Host pick4 = handler.get(selection());
         assertThat(pick4, is(pick0));
     }
 
+    @Test
+    public void roundRobinHostHandlerFailuresPerRequest() {
+        final HostHandler handler = new RoundRobinHostHandler(MULTIPLE_HOSTS);
+        final HostSelection failing = selection();
+        for (int i = 0; i < 4; i++) {
+            handler.get(failing);
+            handler.fail(failing);
+        }
+        // the failures of a request do not affect the other requests
+        assertThat(handler.get(selection()), anyOf(is(HOST_0), is(HOST_1), is(HOST_2)));
+        try {
+            handler.get(failing);
+            fail();
+        } catch (ArangoDBException ignored) {
+        }
+    }
+
+    @Test
+    public void dirtyReadHostHandlerRoutesByRequest() {
+        final HostHandler master = new FallbackHostHandler(MULTIPLE_HOSTS);
+        final HostHandler handler = new DirtyReadHostHandler(master, new RoundRobinHostHandler(MULTIPLE_HOSTS));
+        final HostSelection write = selection();
+        final HostSelection dirtyRead = new HostSelection(null, AccessType.DIRTY_READ);
+        assertThat(handler.get(write), is(HOST_0));
+        handler.get(dirtyRead);
+        handler.fail(dirtyRead);
+        // a failed dirty read does not fail over the master
+        assertThat(handler.get(write), is(HOST_0));
+        assertThat(write.getFailures(), is(0));
+    }
+
 }
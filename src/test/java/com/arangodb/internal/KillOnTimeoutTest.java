@@ -0,0 +1,106 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.model.AqlQueryOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+public class KillOnTimeoutTest {
+
+    private ExecutorService timer;
+    private ExecutorService killer;
+
+    @Before
+    public void setUp() {
+        timer = Executors.newSingleThreadExecutor(r -> new Thread(r, "timer"));
+        killer = Executors.newSingleThreadExecutor(r -> new Thread(r, "killer"));
+    }
+
+    @After
+    public void tearDown() {
+        timer.shutdown();
+        killer.shutdown();
+    }
+
+    private ArangoCursorAsyncExecute killOnTimeout(final Exception failure, final AtomicReference<String> closedOn) {
+        final ArangoDatabaseImpl db = (ArangoDatabaseImpl) new ArangoDB.Builder().build().db();
+        return db.killOnTimeout(new ArangoCursorAsyncExecute() {
+            @Override
+            public CompletableFuture<CursorEntity> next(final String id, final Map<String, String> meta) {
+                final CompletableFuture<CursorEntity> next = new CompletableFuture<>();
+                timer.execute(() -> next.completeExceptionally(failure));
+                return next;
+            }
+
+            @Override
+            public CompletableFuture<Void> close(final String id, final Map<String, String> meta) {
+                closedOn.set(Thread.currentThread().getName());
+                return CompletableFuture.completedFuture(null);
+            }
+        }, new AqlQueryOptions().killOnTimeout(true), killer);
+    }
+
+    @Test
+    public void killedOnExecutor() throws Exception {
+        final AtomicReference<String> closedOn = new AtomicReference<>();
+        try {
+            killOnTimeout(new ArangoDBException(new TimeoutException()), closedOn).next("123", null)
+                    .get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause().getCause(), instanceOf(TimeoutException.class));
+        }
+        assertThat(closedOn.get(), is("killer"));
+    }
+
+    @Test
+    public void notKilledOnOtherErrors() throws Exception {
+        final AtomicReference<String> closedOn = new AtomicReference<>();
+        try {
+            killOnTimeout(new ArangoDBException("failed"), closedOn).next("123", null).get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(ArangoDBException.class));
+        }
+        assertThat(closedOn.get(), is(nullValue()));
+    }
+
+}
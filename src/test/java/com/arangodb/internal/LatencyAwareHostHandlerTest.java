@@ -0,0 +1,197 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ConnectionPoolStats;
+import com.arangodb.internal.net.*;
+import com.arangodb.util.ArangoSerialization;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class LatencyAwareHostHandlerTest {
+
+    private static class FakeConnectionPool implements ConnectionPool {
+        private int inFlightRequests;
+        private double latency;
+
+        @Override
+        public Connection createConnection(final HostDescription host) {
+            return null;
+        }
+
+        @Override
+        public Connection connection() {
+            return null;
+        }
+
+        @Override
+        public int getInFlightRequests() {
+            return inFlightRequests;
+        }
+
+        @Override
+        public double getLatency() {
+            return latency;
+        }
+
+        @Override
+        public ConnectionPoolStats getStats() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private final FakeConnectionPool pool0 = new FakeConnectionPool();
+    private final FakeConnectionPool pool1 = new FakeConnectionPool();
+    private final Host host0 = new HostImpl(pool0, new HostDescription("127.0.0.1", 8529));
+    private final Host host1 = new HostImpl(pool1, new HostDescription("127.0.0.2", 8529));
+
+    private final HostResolver resolver = new HostResolver() {
+
+        @Override
+        public HostSet resolve(final boolean initial, final boolean closeConnections) {
+            final HostSet set = new HostSet();
+            set.addHost(host0);
+            set.addHost(host1);
+            return set;
+        }
+
+        @Override
+        public void init(final ArangoExecutorSync executor, final ArangoSerialization arangoSerialization) {
+        }
+
+        @Override
+        public void refresh() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+    };
+
+    @Test
+    public void preferLowerLatency() {
+        final HostHandler handler = new LatencyAwareHostHandler(resolver);
+        pool0.latency = 10_000_000;
+        pool1.latency = 1_000_000;
+        for (int i = 0; i < 10; i++) {
+            final HostSelection selection = new HostSelection(null, null);
+            assertThat(handler.get(selection), is(host1));
+            handler.success(selection);
+        }
+    }
+
+    @Test
+    public void weightLatencyWithInFlightRequests() {
+        final HostHandler handler = new LatencyAwareHostHandler(resolver);
+        pool0.latency = 2_000_000;
+        pool1.latency = 1_000_000;
+        pool1.inFlightRequests = 4;
+        for (int i = 0; i < 10; i++) {
+            final HostSelection selection = new HostSelection(null, null);
+            assertThat(handler.get(selection), is(host0));
+            handler.success(selection);
+        }
+    }
+
+    @Test
+    public void ejectFailingHost() throws InterruptedException {
+        final HostHandler handler = new LatencyAwareHostHandler(resolver, TimeUnit.MILLISECONDS.toNanos(200));
+        pool0.latency = 1_000_000;
+        pool1.latency = 2_000_000;
+        for (int i = 0; i < 3; i++) {
+            final HostSelection selection = new HostSelection(null, null);
+            assertThat(handler.get(selection), is(host0));
+            handler.fail(selection);
+        }
+        for (int i = 0; i < 10; i++) {
+            final HostSelection selection = new HostSelection(null, null);
+            assertThat(handler.get(selection), is(host1));
+            handler.success(selection);
+        }
+        Thread.sleep(300);
+        assertThat(handler.get(new HostSelection(null, null)), is(host0));
+    }
+
+    @Test
+    public void stickToHostHandle() {
+        final HostHandler handler = new LatencyAwareHostHandler(resolver);
+        pool0.latency = 1_000_000;
+        pool1.latency = 2_000_000;
+        final HostHandle hostHandle = new HostHandle().setHost(host1.getDescription());
+        for (int i = 0; i < 10; i++) {
+            assertThat(handler.get(new HostSelection(hostHandle, null)), is(host1));
+        }
+        final HostHandle emptyHandle = new HostHandle();
+        assertThat(handler.get(new HostSelection(emptyHandle, null)), is(host0));
+        assertThat(emptyHandle.getHost(), is(host0.getDescription()));
+    }
+
+    @Test
+    public void cannotContactAnyHost() {
+        final HostHandler handler = new LatencyAwareHostHandler(resolver);
+        final HostSelection selection = new HostSelection(null, null);
+        for (int i = 0; i < 3; i++) {
+            handler.get(selection);
+            handler.fail(selection);
+        }
+        try {
+            handler.get(selection);
+            fail();
+        } catch (final ArangoDBException e) {
+            assertThat(e.getMessage(), containsString("Cannot contact any host"));
+        }
+    }
+
+    @Test
+    public void decayLatency() throws InterruptedException {
+        final LatencyEwma latency = new LatencyEwma(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(latency.get(), is(0.0));
+        latency.update(1_000_000);
+        final double peak = latency.get();
+        assertThat(peak, is(both(greaterThan(0.0)).and(lessThanOrEqualTo(1_000_000.0))));
+        latency.update(10_000_000);
+        assertThat(latency.get(), is(greaterThan(5_000_000.0)));
+        Thread.sleep(250);
+        assertThat(latency.get(), is(lessThan(1_000_000.0)));
+    }
+
+    @Test
+    public void lowerSampleAfterGap() throws InterruptedException {
+        final LatencyEwma latency = new LatencyEwma(TimeUnit.SECONDS.toNanos(1));
+        latency.update(10_000_000);
+        Thread.sleep(500);
+        // decayed to about 6 ms, the low sample after the gap weighs about 40%
+        latency.update(100_000);
+        assertThat(latency.get(), is(lessThan(5_000_000.0)));
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDB;
+import com.arangodb.internal.InternalArangoDatabase;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ArangoCursorImplTest {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static InternalArangoDatabase<?, ?> db;
+
+    @BeforeClass
+    public static void setup() {
+        db = (InternalArangoDatabase<?, ?>) new ArangoDB.Builder().build().db();
+    }
+
+    public static class Element {
+        private int value;
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(final int value) {
+            this.value = value;
+        }
+    }
+
+    private static ArangoCursor<Element> cursor(final int batches, final Executor decodeExecutor) {
+        final FakeCursor cursor = new FakeCursor(batches, BATCH_SIZE, i -> Collections.singletonMap("value", i));
+        return new ArangoCursorImpl<>(db, cursor.blocking(), Element.class, cursor.first(), decodeExecutor);
+    }
+
+    private static void assertOrdered(final ArangoCursor<Element> cursor, final int count) {
+        final int[] values = cursor.stream().mapToInt(Element::getValue).toArray();
+        assertThat(values.length, is(count));
+        for (int i = 0; i < count; i++) {
+            assertThat(values[i], is(i));
+        }
+    }
+
+    @Test
+    public void parallelDecode() {
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final Executor executor = task -> ForkJoinPool.commonPool().execute(() -> {
+            threads.add(Thread.currentThread().getName());
+            task.run();
+        });
+        assertOrdered(cursor(3, executor), 3 * BATCH_SIZE);
+        if (Runtime.getRuntime().availableProcessors() > 1) {
+            assertThat(threads, is(not(empty())));
+        }
+    }
+
+    @Test
+    public void decodeExecutorSetAfterCreation() {
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final Executor executor = task -> ForkJoinPool.commonPool().execute(() -> {
+            threads.add(Thread.currentThread().getName());
+            task.run();
+        });
+        // as done for the cursors created by a custom cursor initializer
+        final ArangoCursorImpl<Element> cursor = (ArangoCursorImpl<Element>) cursor(3, null);
+        cursor.setDecodeExecutor(executor);
+        assertOrdered(cursor, 3 * BATCH_SIZE);
+        if (Runtime.getRuntime().availableProcessors() > 1) {
+            assertThat(threads, is(not(empty())));
+        }
+    }
+
+    @Test
+    public void sequentialDecode() {
+        assertOrdered(cursor(3, null), 3 * BATCH_SIZE);
+    }
+
+    @Test
+    public void parallelStream() {
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final ArangoCursor<Element> cursor = cursor(4, null);
+        final List<Integer> values = cursor.stream().parallel()
+                .peek(e -> threads.add(Thread.currentThread().getName()))
+                .map(Element::getValue)
+                .collect(Collectors.toList());
+        assertThat(values, is(IntStream.range(0, 4 * BATCH_SIZE).boxed().collect(Collectors.toList())));
+        if (ForkJoinPool.getCommonPoolParallelism() > 1) {
+            assertThat(threads.size(), is(greaterThan(1)));
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorAsyncExecute;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.ValueType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Server side of a cursor for the tests, without the need of a running ArangoDB server. The cursor has a given number
+ * of batches, the elements of batch {@code n} are built from the indexes {@code n * size} to {@code (n + 1) * size - 1}.
+ * Fetching a batch after the last one fails as on the server.
+ */
+public class FakeCursor {
+
+    public static final String ID = "123";
+
+    private static final ArangoSerialization UTIL = new ArangoDB.Builder().build().util();
+
+    private final int batches;
+    private final int size;
+    private final IntFunction<Object> element;
+    private final AtomicInteger concurrent = new AtomicInteger();
+    /**
+     * number of batches fetched after the first one
+     */
+    public final AtomicInteger fetched = new AtomicInteger();
+    /**
+     * ids of the closed cursors
+     */
+    public final List<String> closed = new CopyOnWriteArrayList<>();
+    private volatile boolean concurrentFetch;
+    private volatile long delay;
+    private volatile int failAt = -1;
+
+    /**
+     * @param batches number of batches of the cursor
+     * @param size    number of elements of every batch
+     * @param element element of the given index, either {@code null}, an {@link Integer} or an object serialized as
+     *                document
+     */
+    public FakeCursor(final int batches, final int size, final IntFunction<Object> element) {
+        super();
+        this.batches = batches;
+        this.size = size;
+        this.element = element;
+    }
+
+    /**
+     * Cursor of integer elements, equal to their index
+     */
+    public FakeCursor(final int batches, final int size) {
+        this(batches, size, i -> i);
+    }
+
+    /**
+     * @param delay time in milliseconds taken to fetch every batch
+     */
+    public FakeCursor delay(final long delay) {
+        this.delay = delay;
+        return this;
+    }
+
+    /**
+     * @param failAt index of the batch failing to be fetched
+     */
+    public FakeCursor failAt(final int failAt) {
+        this.failAt = failAt;
+        return this;
+    }
+
+    /**
+     * @return whether a batch has been fetched while another one was being fetched
+     */
+    public boolean isConcurrentFetch() {
+        return concurrentFetch;
+    }
+
+    public CursorEntity first() {
+        return batch(0);
+    }
+
+    private CursorEntity batch(final int index) {
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.OBJECT)
+                .add("id", ID)
+                .add("hasMore", index < batches - 1)
+                .add("result", ValueType.ARRAY);
+        for (int i = index * size; i < (index + 1) * size; i++) {
+            final Object value = element.apply(i);
+            if (value == null) {
+                builder.add(ValueType.NULL);
+            } else if (value instanceof Integer) {
+                builder.add((Integer) value);
+            } else {
+                builder.add(UTIL.serialize(value));
+            }
+        }
+        return UTIL.deserialize(builder.close().close().slice(), CursorEntity.class);
+    }
+
+    private CursorEntity next() {
+        if (concurrent.incrementAndGet() > 1) {
+            concurrentFetch = true;
+        }
+        try {
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            final int index = fetched.incrementAndGet();
+            if (index == failAt) {
+                throw new ArangoDBException("failed batch " + index);
+            }
+            if (index >= batches) {
+                throw new ArangoDBException("cursor not found");
+            }
+            return batch(index);
+        } catch (final InterruptedException e) {
+            throw new ArangoDBException(e);
+        } finally {
+            concurrent.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return blocking execution fetching the batches of this cursor
+     */
+    public ArangoCursorExecute blocking() {
+        return new ArangoCursorExecute() {
+            @Override
+            public CursorEntity next(final String id, final Map<String, String> meta) {
+                return FakeCursor.this.next();
+            }
+
+            @Override
+            public void close(final String id, final Map<String, String> meta) {
+                closed.add(id);
+            }
+        };
+    }
+
+    /**
+     * @param async whether the batches are fetched on another thread or are returned already completed
+     * @return non-blocking execution fetching the batches of this cursor
+     */
+    public ArangoCursorAsyncExecute nonBlocking(final boolean async) {
+        return new ArangoCursorAsyncExecute() {
+            @Override
+            public CompletableFuture<CursorEntity> next(final String id, final Map<String, String> meta) {
+                if (async) {
+                    return CompletableFuture.supplyAsync(FakeCursor.this::next);
+                }
+                final CompletableFuture<CursorEntity> future = new CompletableFuture<>();
+                try {
+                    future.complete(FakeCursor.this.next());
+                } catch (final ArangoDBException e) {
+                    future.completeExceptionally(e);
+                }
+                return future;
+            }
+
+            @Override
+            public CompletableFuture<Void> close(final String id, final Map<String, String> meta) {
+                closed.add(id);
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+    }
+
+}
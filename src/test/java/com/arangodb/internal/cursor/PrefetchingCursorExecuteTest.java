@@ -0,0 +1,106 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+
+public class PrefetchingCursorExecuteTest {
+
+    private static ArangoCursorExecute prefetching(final FakeCursor cursor, final int batches) {
+        return new PrefetchingCursorExecute(PrefetchingCursorExecute.fromBlocking(cursor.blocking()), batches,
+                cursor.first());
+    }
+
+    private static void await(final AtomicInteger counter, final int value) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter.get() < value && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    public void fetchAheadInOrder() throws InterruptedException {
+        final FakeCursor cursor = new FakeCursor(10, 1).delay(10);
+        final ArangoCursorExecute prefetching = prefetching(cursor, 3);
+        await(cursor.fetched, 3);
+        Thread.sleep(50);
+        // no more than the requested batches are fetched ahead
+        assertThat(cursor.fetched.get(), is(3));
+
+        CursorEntity result;
+        int index = 0;
+        do {
+            result = prefetching.next(FakeCursor.ID, null);
+            assertThat(result.getResult().get(0).getAsInt(), is(++index));
+        } while (result.getHasMore());
+        assertThat(index, is(9));
+        assertThat(cursor.fetched.get(), is(9));
+        assertThat(cursor.isConcurrentFetch(), is(false));
+    }
+
+    @Test
+    public void closeWhileFetching() throws InterruptedException {
+        final FakeCursor cursor = new FakeCursor(10, 1).delay(10);
+        final ArangoCursorExecute prefetching = prefetching(cursor, 2);
+        prefetching.next(FakeCursor.ID, null);
+        prefetching.close(FakeCursor.ID, null);
+        final int fetched = cursor.fetched.get();
+        assertThat(fetched, is(lessThanOrEqualTo(3)));
+        assertThat(cursor.closed, contains(FakeCursor.ID));
+        Thread.sleep(50);
+        assertThat(cursor.fetched.get(), is(fetched));
+    }
+
+    @Test
+    public void doNotCloseExhaustedCursor() throws InterruptedException {
+        final FakeCursor cursor = new FakeCursor(3, 1).delay(10);
+        final ArangoCursorExecute prefetching = prefetching(cursor, 4);
+        await(cursor.fetched, 2);
+        Thread.sleep(50);
+        prefetching.close(FakeCursor.ID, null);
+        assertThat(cursor.fetched.get(), is(2));
+        assertThat(cursor.closed, is(empty()));
+    }
+
+    @Test
+    public void reportFailedBatch() {
+        final FakeCursor cursor = new FakeCursor(10, 1).delay(10).failAt(2);
+        final ArangoCursorExecute prefetching = prefetching(cursor, 2);
+        assertThat(prefetching.next(FakeCursor.ID, null).getResult().get(0).getAsInt(), is(1));
+        try {
+            prefetching.next(FakeCursor.ID, null);
+            fail();
+        } catch (final ArangoDBException e) {
+            assertThat(e.getMessage(), containsString("failed batch 2"));
+        }
+    }
+
+}
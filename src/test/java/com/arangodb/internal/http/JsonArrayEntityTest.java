@@ -0,0 +1,68 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
+import org.apache.http.entity.ContentType;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class JsonArrayEntityTest {
+
+    private static final VPackParser PARSER = new VPackParser.Builder().build();
+
+    private static String write(final Iterable<VPackSlice> values) throws IOException {
+        final JsonArrayEntity entity = new JsonArrayEntity(values, ContentType.APPLICATION_JSON);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void writeTo() throws IOException {
+        final String json = write(Arrays.asList(PARSER.fromJson("{\"a\":1}"), PARSER.fromJson("\"\u00fc\""),
+                PARSER.fromJson("null", true), PARSER.fromJson("1.5"), PARSER.fromJson("true")));
+        assertThat(json, is("[{\"a\":1},\"\u00fc\",null,1.5,true]"));
+    }
+
+    @Test
+    public void writeToEmpty() throws IOException {
+        assertThat(write(Collections.emptyList()), is("[]"));
+    }
+
+    @Test
+    public void chunked() {
+        final JsonArrayEntity entity = new JsonArrayEntity(Collections.emptyList(), ContentType.APPLICATION_JSON);
+        assertThat(entity.isChunked(), is(true));
+        assertThat(entity.getContentLength(), is(-1L));
+        assertThat(entity.isRepeatable(), is(true));
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class IOUtilsTest {
+
+    private static byte[] bytes(final int size) {
+        final byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    // returns at most 100 bytes per read, as a socket would
+    private static InputStream slow(final byte[] bytes) {
+        return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                return super.read(b, off, Math.min(len, 100));
+            }
+        };
+    }
+
+    @Test
+    public void toByteArrayWithLength() throws IOException {
+        final byte[] bytes = bytes(10000);
+        assertThat(IOUtils.toByteArray(slow(bytes), bytes.length), is(bytes));
+    }
+
+    @Test
+    public void toByteArrayWithUnknownLength() throws IOException {
+        final byte[] bytes = bytes(10000);
+        assertThat(IOUtils.toByteArray(slow(bytes), -1), is(bytes));
+    }
+
+    @Test
+    public void toByteArrayShorterThanLength() throws IOException {
+        final byte[] bytes = bytes(1000);
+        assertThat(IOUtils.toByteArray(slow(bytes), 2000), is(bytes));
+    }
+
+    @Test
+    public void toByteArrayLongerThanLength() throws IOException {
+        final byte[] bytes = bytes(10000);
+        assertThat(IOUtils.toByteArray(slow(bytes), 1000), is(bytes));
+    }
+
+    @Test
+    public void toByteArrayEmpty() throws IOException {
+        assertThat(IOUtils.toByteArray(slow(new byte[0]), 0), is(new byte[0]));
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+public class TimerWheelTest {
+
+    @Test
+    public void expireAfterDelay() throws InterruptedException {
+        final TimerWheel timer = new TimerWheel(1, TimeUnit.MILLISECONDS, 8);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        // longer than a whole round of the wheel
+        final TimerWheel.Timeout timeout = timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(greaterThanOrEqualTo(50L)));
+        assertThat(timeout.isExpired(), is(true));
+        assertThat(timeout.cancel(), is(false));
+    }
+
+    @Test
+    public void doNotExpireCancelled() throws InterruptedException {
+        final TimerWheel timer = new TimerWheel(1, TimeUnit.MILLISECONDS, 8);
+        final AtomicInteger expired = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final TimerWheel.Timeout cancelled = timer.schedule(expired::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+        timer.schedule(latch::countDown, 30, TimeUnit.MILLISECONDS);
+        assertThat(cancelled.cancel(), is(true));
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(expired.get(), is(0));
+        assertThat(cancelled.isExpired(), is(false));
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream;
+
+import com.arangodb.internal.velocystream.internal.BufferPool;
+import com.arangodb.internal.velocystream.internal.Chunk;
+import com.arangodb.internal.velocystream.internal.ChunkStore;
+import com.arangodb.internal.velocystream.internal.Message;
+import com.arangodb.internal.velocystream.internal.MessageStore;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class BufferPoolTest {
+
+    @Test
+    public void reuseReleasedBuffer() {
+        final BufferPool pool = new BufferPool();
+        final byte[] buffer = pool.acquire(1000);
+        assertThat(buffer.length, is(1024));
+        pool.release(buffer);
+        assertThat(pool.acquire(600) == buffer, is(true));
+    }
+
+    @Test
+    public void doNotPoolHugeBuffer() {
+        final BufferPool pool = new BufferPool();
+        final byte[] buffer = pool.acquire(3 << 20);
+        assertThat(buffer.length, is(3 << 20));
+        pool.release(buffer);
+        assertThat(pool.acquire(3 << 20) == buffer, is(false));
+    }
+
+    @Test
+    public void doNotReuseTooSmallBuffer() {
+        final BufferPool pool = new BufferPool();
+        final byte[] buffer = pool.acquire(1000);
+        pool.release(buffer);
+        final byte[] other = pool.acquire(1025);
+        assertThat(other == buffer, is(false));
+        assertThat(other.length, is(2048));
+    }
+
+    @Test
+    public void limitBuffersPerClass() {
+        final BufferPool pool = new BufferPool(1);
+        final byte[] first = new byte[2048];
+        pool.release(first);
+        pool.release(new byte[2048]);
+        assertThat(pool.acquire(2048) == first, is(true));
+        assertThat(pool.acquire(2048) == first, is(false));
+    }
+
+    @Test
+    public void reassembleIntoPooledBuffer() throws Exception {
+        final BufferPool pool = new BufferPool();
+        final byte[] pooled = new byte[512];
+        pool.release(pooled);
+        final MessageStore messageStore = new MessageStore();
+        final ChunkStore chunkStore = new ChunkStore(messageStore, pool);
+
+        final VPackSlice head = new VPackBuilder().add(ValueType.ARRAY).add(1).add(2).add(200).close().slice();
+        final byte[] content = head.toByteArray();
+        final CompletableFuture<Message> future = messageStore.storeMessage(1L);
+
+        final ByteBuffer chunkBuffer = chunkStore.storeChunk(new Chunk(1L, 0, 1, -1L, 0, content.length));
+        assertThat(chunkBuffer.array() == pooled, is(true));
+        assertThat(chunkBuffer.remaining(), is(content.length));
+        chunkBuffer.put(content);
+        chunkStore.checkCompleteness(1L);
+
+        final Message message = future.get();
+        assertThat(message.getHead().get(2).getAsInt(), is(200));
+        assertThat(message.getBody(), is(nullValue()));
+        message.release();
+        assertThat(pool.acquire(content.length) == chunkBuffer.array(), is(true));
+    }
+
+}
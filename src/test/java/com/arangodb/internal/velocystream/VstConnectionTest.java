@@ -0,0 +1,201 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ArangoDBVersion;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.model.DocumentReadOptions;
+import com.arangodb.velocystream.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the VST transports against {@link VstServerMock}, without the need of a running ArangoDB server.
+ */
+@RunWith(Parameterized.class)
+public class VstConnectionTest {
+
+    private final Integer eventLoopThreads;
+    private final Integer writeCoalescingDelay;
+    private VstServerMock server;
+    private ArangoDB arangoDB;
+
+    @Parameterized.Parameters(name = "eventLoopThreads={0}, writeCoalescingDelay={1}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(new Object[][]{
+                {null, null},
+                {1, null},
+                {2, null},
+                {null, 0},
+                {null, 200},
+                {1, 200},
+                {2, 200}
+        });
+    }
+
+    public VstConnectionTest(final Integer eventLoopThreads, final Integer writeCoalescingDelay) {
+        this.eventLoopThreads = eventLoopThreads;
+        this.writeCoalescingDelay = writeCoalescingDelay;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        server = new VstServerMock(7);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (arangoDB != null) {
+            arangoDB.shutdown();
+        }
+        server.close();
+    }
+
+    private ArangoDB.Builder builder() {
+        // ignore the hosts configured in arangodb.properties
+        return new ArangoDB.Builder() {
+            {
+                hosts.clear();
+            }
+        }
+                .host("127.0.0.1", server.getPort())
+                .acquireHostList(false)
+                .maxConnections(1)
+                .eventLoopThreads(eventLoopThreads)
+                .writeCoalescingDelay(writeCoalescingDelay);
+    }
+
+    @Test
+    public void getVersion() {
+        arangoDB = builder().build();
+        final ArangoDBVersion version = arangoDB.getVersion();
+        assertThat(version.getServer(), is("arango"));
+        assertThat(version.getVersion(), is("mock"));
+    }
+
+    @Test
+    public void multiChunkRequest() {
+        arangoDB = builder().chunksize(20).build();
+        final BaseDocument doc = new BaseDocument();
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            value.append(i);
+        }
+        doc.addAttribute("value", value.toString());
+        final Response response = arangoDB.db().route("echo").withBody(doc).post();
+        assertThat(response.getResponseCode(), is(200));
+        assertThat(response.getBody().get("value").getAsString(), is(value.toString()));
+    }
+
+    @Test
+    public void largeRequest() {
+        arangoDB = builder().build();
+        final BaseDocument doc = new BaseDocument();
+        final char[] value = new char[1024 * 1024];
+        Arrays.fill(value, 'x');
+        doc.addAttribute("value", new String(value));
+        final Response response = arangoDB.db().route("echo").withBody(doc).post();
+        assertThat(response.getBody().get("value").getLength(), is(value.length));
+    }
+
+    @Test
+    public void largeResponseChunks() throws Exception {
+        // chunks larger than the read buffer of the non-blocking transport
+        server.close();
+        server = new VstServerMock(256 * 1024);
+        arangoDB = builder().build();
+        final BaseDocument doc = new BaseDocument();
+        final char[] value = new char[1024 * 1024];
+        Arrays.fill(value, 'x');
+        doc.addAttribute("value", new String(value));
+        for (int i = 0; i < 3; i++) {
+            final Response response = arangoDB.db().route("echo").withBody(doc).post();
+            assertThat(response.getBody().get("value").getAsString(), is(new String(value)));
+        }
+    }
+
+    @Test
+    public void requestTimeout() {
+        arangoDB = builder().build();
+        server.setResponseDelay(1000);
+        try {
+            arangoDB.db().collection("c").getDocument("k", BaseDocument.class, new DocumentReadOptions().timeout(100));
+            fail();
+        } catch (final ArangoDBException e) {
+            assertThat(e.getCause(), instanceOf(TimeoutException.class));
+        }
+        // the late response of the expired request is discarded
+        server.setResponseDelay(0);
+        assertThat(arangoDB.getVersion().getVersion(), is("mock"));
+    }
+
+    @Test(timeout = 10000)
+    public void keepAlive() throws InterruptedException {
+        arangoDB = builder().keepAliveInterval(1).build();
+        assertThat(arangoDB.getVersion().getVersion(), is("mock"));
+        // the probes are answered and do not hold back the requests, also with a single event loop thread
+        Thread.sleep(2500);
+        assertThat(arangoDB.getVersion().getVersion(), is("mock"));
+        assertThat(server.getRequests() >= 4, is(true));
+    }
+
+    @Test
+    public void concurrentRequests() throws Exception {
+        arangoDB = builder().maxConnections(4).build();
+        final ExecutorService es = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(es.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        assertThat(arangoDB.getVersion().getVersion(), is("mock"));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            es.shutdown();
+        }
+        assertThat(server.getConnections(), is(4));
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process VelocyStream server answering every request with status code 200. The response body echoes the
+ * request body or, if the request has no body, contains a fake server version and the requested path.
+ */
+public class VstServerMock implements AutoCloseable {
+
+    private static final int PROTOCOL_HEADER_SIZE = "VST/1.0\r\n\r\n".length();
+
+    private final ServerSocket serverSocket;
+    private final int chunkSize;
+    private final CopyOnWriteArrayList<Socket> sockets = new CopyOnWriteArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long responseDelay;
+
+    public VstServerMock(final int chunkSize) throws IOException {
+        this.chunkSize = chunkSize;
+        serverSocket = new ServerSocket(0);
+        final Thread acceptor = new Thread(this::accept, "vst-server-mock");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getConnections() {
+        return sockets.size();
+    }
+
+    public int getRequests() {
+        return requests.get();
+    }
+
+    public void setResponseDelay(final long responseDelay) {
+        this.responseDelay = responseDelay;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                sockets.add(socket);
+                final Thread t = new Thread(() -> serve(socket), "vst-server-mock-connection");
+                t.setDaemon(true);
+                t.start();
+            } catch (final IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(final Socket socket) {
+        try {
+            final DataInputStream in = new DataInputStream(socket.getInputStream());
+            final OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            in.readFully(new byte[PROTOCOL_HEADER_SIZE]);
+            final Map<Long, ByteBuffer> messages = new HashMap<>();
+            while (true) {
+                final ByteBuffer header = readBytes(in, 16);
+                final int length = header.getInt();
+                final int chunkX = header.getInt();
+                final long id = header.getLong();
+                final boolean first = (chunkX & 0x1) == 1;
+                final int headerLength;
+                ByteBuffer message = messages.get(id);
+                if (first && (chunkX >> 1) > 1) {
+                    message = ByteBuffer.allocate((int) readBytes(in, 8).getLong());
+                    headerLength = 24;
+                } else {
+                    if (message == null) {
+                        message = ByteBuffer.allocate(length - 16);
+                    }
+                    headerLength = 16;
+                }
+                messages.put(id, message);
+                final byte[] content = new byte[length - headerLength];
+                in.readFully(content);
+                message.put(content);
+                if (!message.hasRemaining()) {
+                    messages.remove(id);
+                    requests.incrementAndGet();
+                    if (responseDelay > 0) {
+                        Thread.sleep(responseDelay);
+                    }
+                    respond(out, id, message.array());
+                }
+            }
+        } catch (final SocketException | EOFException e) {
+            // connection closed
+        } catch (final IOException | InterruptedException e) {
+            e.printStackTrace();
+        } finally {
+            try {
+                socket.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+
+    private void respond(final OutputStream out, final long id, final byte[] request) throws IOException {
+        final VPackSlice requestHead = new VPackSlice(request);
+        final VPackSlice head = new VPackBuilder()
+                .add(ValueType.ARRAY)
+                .add(1)
+                .add(2)
+                .add(200)
+                .add(ValueType.OBJECT)
+                .close()
+                .close()
+                .slice();
+        final byte[] body;
+        if (request.length > requestHead.getByteSize()) {
+            body = new byte[new VPackSlice(request, requestHead.getByteSize()).getByteSize()];
+            System.arraycopy(request, requestHead.getByteSize(), body, 0, body.length);
+        } else {
+            final VPackBuilder builder = new VPackBuilder().add(ValueType.OBJECT)
+                    .add("server", "arango")
+                    .add("version", "mock");
+            if (requestHead.isArray() && requestHead.size() > 4) {
+                builder.add("path", requestHead.get(4).getAsString());
+            }
+            body = builder.close().slice().toByteArray();
+        }
+        final byte[] message = new byte[head.getByteSize() + body.length];
+        System.arraycopy(head.getBuffer(), head.getStart(), message, 0, head.getByteSize());
+        System.arraycopy(body, 0, message, head.getByteSize(), body.length);
+
+        final int n = (message.length + chunkSize - 1) / chunkSize;
+        synchronized (out) {
+            for (int i = 0, off = 0; i < n; i++) {
+                final int len = Math.min(chunkSize, message.length - off);
+                final boolean withLength = i == 0 && n > 1;
+                final ByteBuffer header = ByteBuffer.allocate(withLength ? 24 : 16).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(len + header.capacity());
+                header.putInt(n == 1 ? 3 : (i == 0 ? (n << 1) + 1 : i << 1));
+                header.putLong(id);
+                if (withLength) {
+                    header.putLong(message.length);
+                }
+                out.write(header.array());
+                out.write(message, off, len);
+                off += len;
+            }
+            out.flush();
+        }
+    }
+
+    private static ByteBuffer readBytes(final DataInputStream in, final int len) throws IOException {
+        final byte[] buf = new byte[len];
+        in.readFully(buf);
+        return ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (final Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class LongObjectHashMapTest {
+
+    @Test
+    public void putGetRemove() {
+        final LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        assertThat(map.put(1L, "a"), is(nullValue()));
+        assertThat(map.put(-1L, "b"), is(nullValue()));
+        assertThat(map.put(1L, "c"), is("a"));
+        assertThat(map.size(), is(2));
+        assertThat(map.get(1L), is("c"));
+        assertThat(map.get(-1L), is("b"));
+        assertThat(map.get(2L), is(nullValue()));
+        assertThat(map.remove(1L), is("c"));
+        assertThat(map.remove(1L), is(nullValue()));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void clear() {
+        final LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        map.put(1L, "a");
+        map.put(2L, "b");
+        assertThat(map.clear(), containsInAnyOrder("a", "b"));
+        assertThat(map.isEmpty(), is(true));
+        assertThat(map.get(1L), is(nullValue()));
+    }
+
+    @Test
+    public void randomOperations() {
+        final LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+        final Map<Long, Long> expected = new HashMap<>();
+        final Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            final long key = random.nextInt(1000) - 500;
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, (long) i), is(expected.put(key, (long) i)));
+            } else {
+                assertThat(map.remove(key), is(expected.remove(key)));
+            }
+            assertThat(map.size(), is(expected.size()));
+        }
+        for (final Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertThat(map.get(entry.getKey()), is(entry.getValue()));
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package perf;
+
+import com.arangodb.async.internal.ArangoExecutorAsync;
+import com.arangodb.internal.net.HostHandle;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the async execution pipeline of {@link ArangoExecutorAsync} with concurrent callers,
+ * over a simulated connection whose responses are completed by a single reader thread. The CPU work of sending a
+ * request and of deserializing its response is simulated as well. {@code legacy} is the former pipeline, sending all
+ * the requests on one shared thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class AsyncExecutorBenchmark {
+
+    private static final long SEND_TOKENS = 500;
+    private static final long DESERIALIZE_TOKENS = 500;
+
+    /**
+     * legacy: send on a single shared thread, deserialize on the common pool
+     * callerRuns: send on the calling thread, deserialize on the common pool
+     * direct: send on the calling thread, deserialize on the thread receiving the response
+     */
+    @Param({"legacy", "callerRuns", "direct"})
+    public String pipeline;
+
+    private ExecutorService reader;
+    private ExecutorService legacySender;
+    private ArangoExecutorAsync executor;
+    private Request request;
+
+    @Setup
+    public void setup() {
+        reader = Executors.newSingleThreadExecutor();
+        legacySender = Executors.newSingleThreadExecutor();
+        final Response response = new Response();
+        final boolean legacy = "legacy".equals(pipeline);
+        executor = new ArangoExecutorAsync(null, null, null, legacy ? legacySender : null,
+                "direct".equals(pipeline) ? Runnable::run : null) {
+            @Override
+            protected CompletableFuture<Response> send(final Request request, final HostHandle hostHandle) {
+                Blackhole.consumeCPU(SEND_TOKENS);
+                return CompletableFuture.supplyAsync(() -> response, reader);
+            }
+        };
+        request = new Request("_system", RequestType.GET, "/_api/version");
+    }
+
+    @TearDown
+    public void tearDown() {
+        reader.shutdown();
+        legacySender.shutdown();
+    }
+
+    @Benchmark
+    public Response execute() {
+        return executor.execute(request, response -> {
+            Blackhole.consumeCPU(DESERIALIZE_TOKENS);
+            return response;
+        }).join();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+                .include(AsyncExecutorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+}
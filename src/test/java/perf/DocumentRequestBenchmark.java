@@ -0,0 +1,135 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package perf;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBException;
+import com.arangodb.internal.ArangoCollectionImpl;
+import com.arangodb.internal.ArangoDatabaseImpl;
+import com.arangodb.model.DocumentReadOptions;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the cost of building the request of a single document operation, before it is sent. Compares the cached
+ * per-collection document path with the former construction of the whole path on every call. Run with the {@code gc}
+ * profiler to compare the allocated bytes per request ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentRequestBenchmark {
+
+    static class Collection extends ArangoCollectionImpl {
+        Collection(final ArangoDatabaseImpl db, final String name) {
+            super(db, name);
+        }
+
+        Request getDocument(final String key) {
+            return getDocumentRequest(key, new DocumentReadOptions());
+        }
+
+        /**
+         * Former implementation of the request, building and encoding the whole path on every call
+         */
+        Request legacyGetDocument(final String key) {
+            if (!Pattern.matches("[^/]+", key)) {
+                throw new ArangoDBException(String.format("%s %s is not valid.", "document key", key));
+            }
+            return request(db().name(), RequestType.GET, legacyCreatePath("/_api/document", name() + "/" + key));
+        }
+    }
+
+    private static String legacyCreatePath(final String... params) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                sb.append("/");
+            }
+            try {
+                final String param;
+                if (params[i].contains("/")) {
+                    param = legacyCreatePath(params[i].split("/"));
+                } else {
+                    param = URLEncoder.encode(params[i], "UTF-8").replaceAll("\\+", "%20")
+                            .replaceAll("\\%21", "!").replaceAll("\\%27", "'").replaceAll("\\%28", "(")
+                            .replaceAll("\\%29", ")").replaceAll("\\%7E", "~");
+                }
+                sb.append(param);
+            } catch (final UnsupportedEncodingException e) {
+                throw new ArangoDBException(e);
+            }
+        }
+        return sb.toString();
+    }
+
+    private Collection collection;
+    private String key;
+
+    @Setup
+    public void setup() {
+        final ArangoDatabaseImpl db = (ArangoDatabaseImpl) new ArangoDB.Builder().build().db();
+        collection = new Collection(db, "users");
+        key = "user-1234567";
+    }
+
+    @Benchmark
+    public Request legacy() {
+        return collection.legacyGetDocument(key);
+    }
+
+    @Benchmark
+    public Request cachedPath() {
+        return collection.getDocument(key);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+                .include(DocumentRequestBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+
+}
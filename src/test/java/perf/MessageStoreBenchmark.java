@@ -0,0 +1,130 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package perf;
+
+import com.arangodb.internal.velocystream.internal.Message;
+import com.arangodb.internal.velocystream.internal.MessageStore;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request cost of tracking an in-flight VST message, from registration to the handoff of the
+ * response to the waiting caller. Run with the {@code gc} profiler to compare the allocated bytes per request
+ * ({@code gc.alloc.rate.norm}) of {@link MessageStore} with the former three maps and {@link FutureTask} handoff.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageStoreBenchmark {
+
+    /**
+     * Former implementation of {@link MessageStore}
+     */
+    static class LegacyMessageStore {
+        private final Map<Long, FutureTask<Message>> task = new ConcurrentHashMap<>();
+        private final Map<Long, Message> response = new ConcurrentHashMap<>();
+        private final Map<Long, Exception> error = new ConcurrentHashMap<>();
+
+        void storeMessage(final long messageId, final FutureTask<Message> future) {
+            task.put(messageId, future);
+        }
+
+        void consume(final Message message) {
+            final FutureTask<Message> future = task.remove(message.getId());
+            if (future != null) {
+                response.put(message.getId(), message);
+                future.run();
+            }
+        }
+
+        Message get(final long messageId) {
+            final Message result = response.remove(messageId);
+            if (result == null) {
+                error.remove(messageId);
+            }
+            return result;
+        }
+    }
+
+    private VPackSlice head;
+    private MessageStore messageStore;
+    private LegacyMessageStore legacyMessageStore;
+    private long id;
+
+    @Setup
+    public void setup() {
+        head = new VPackBuilder().add(ValueType.ARRAY).add(1).add(2).add(200).close().slice();
+        messageStore = new MessageStore();
+        legacyMessageStore = new LegacyMessageStore();
+    }
+
+    @Benchmark
+    public Message legacy() throws ExecutionException, InterruptedException {
+        final long messageId = id++;
+        final FutureTask<Message> task = new FutureTask<>(() -> legacyMessageStore.get(messageId));
+        legacyMessageStore.storeMessage(messageId, task);
+        legacyMessageStore.consume(new Message(messageId, head, null));
+        return task.get();
+    }
+
+    @Benchmark
+    public Message singleFuture() throws ExecutionException, InterruptedException {
+        final long messageId = id++;
+        final CompletableFuture<Message> future = messageStore.storeMessage(messageId);
+        messageStore.consume(new Message(messageId, head, null));
+        return future.get();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+                .include(MessageStoreBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+
+}
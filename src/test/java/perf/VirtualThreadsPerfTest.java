@@ -0,0 +1,92 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package perf;
+
+import com.arangodb.ArangoDB;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Sends {@value #CALLERS} concurrent requests with the synchronous driver, each one from its own virtual thread, over
+ * VST connections whose threads are virtual as well. Requires JDK 21 or later, run it with
+ * {@code -Djdk.tracePinnedThreads=full} to report virtual threads pinning their carrier thread while blocked.
+ */
+@Ignore
+public class VirtualThreadsPerfTest {
+    private static final int CALLERS = 100_000;
+
+    private ExecutorService executor;
+    private ArangoDB arangoDB;
+
+    @Before
+    public void setup() throws Exception {
+        final Method ofVirtual;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+        } catch (final NoSuchMethodException e) {
+            assumeTrue("virtual threads not available", false);
+            return;
+        }
+        final Object builder = ofVirtual.invoke(null);
+        final ThreadFactory factory = (ThreadFactory) builder.getClass().getMethod("factory").invoke(builder);
+        executor = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        arangoDB = new ArangoDB.Builder().maxConnections(8).threadFactory(factory).build();
+        arangoDB.getVersion();
+    }
+
+    @After
+    public void teardown() {
+        if (arangoDB != null) {
+            arangoDB.shutdown();
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getVersion() throws Exception {
+        final long start = new Date().getTime();
+        final List<Future<?>> futures = new ArrayList<>(CALLERS);
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> arangoDB.getVersion()));
+        }
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        final long end = new Date().getTime();
+        System.out.println("elapsed ms: " + (end - start));
+    }
+}